@@ -0,0 +1,99 @@
+package br.com.cloudmatize.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Executa os benchmarks e publica os resultados em target/jmh
+ * jmh-result.json é o relatório completo do JMH; resumo.json traz, por benchmark, ops/s e
+ * round trips por operação, em formato estável para comparação em revisão de PR
+ */
+public final class BenchmarkRunner {
+    private static final Path DIRETORIO_RESULTADOS = Paths.get("target", "jmh");
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        String filtro = args.length > 0 ? args[0] : ".*";
+        Files.createDirectories(DIRETORIO_RESULTADOS);
+        Options opcoes = new OptionsBuilder()
+                .include(BenchmarkRunner.class.getPackageName() + ".*" + filtro)
+                .resultFormat(ResultFormatType.JSON)
+                .result(DIRETORIO_RESULTADOS.resolve("jmh-result.json").toString())
+                .build();
+        Collection<RunResult> resultados = new Runner(opcoes).run();
+
+        List<Map<String, Object>> resumo = new ArrayList<>();
+        for (RunResult resultado : resultados) {
+            Result<?> principal = resultado.getPrimaryResult();
+            Map<String, Object> linha = new LinkedHashMap<>();
+            linha.put("benchmark", nome(resultado));
+            linha.put("opsPorSegundo", arredondar(principal.getScore()));
+            linha.put("erro", arredondar(principal.getScoreError()));
+            linha.put("roundTripsPorOperacao", roundTripsPorOperacao(resultado));
+            resumo.add(linha);
+        }
+        resumo.sort(Comparator.comparing(linha -> String.valueOf(linha.get("benchmark"))));
+
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        Path arquivoResumo = DIRETORIO_RESULTADOS.resolve("resumo.json");
+        try (Writer writer = Files.newBufferedWriter(arquivoResumo, StandardCharsets.UTF_8)) {
+            gson.toJson(resumo, writer);
+        }
+        System.out.println("=== RESUMO DOS BENCHMARKS: " + arquivoResumo.toAbsolutePath() + " ===");
+        resumo.forEach(linha -> System.out.printf("%-60s %12s ops/s %8s round trips/op%n",
+                linha.get("benchmark"), linha.get("opsPorSegundo"), linha.get("roundTripsPorOperacao")));
+    }
+
+    /**
+     * Nome curto do benchmark com os parâmetros, ex.: EncontrarBotaoBenchmark.scriptUnico[texto=Get Sum]
+     */
+    private static String nome(RunResult resultado) {
+        String completo = resultado.getParams().getBenchmark();
+        String nome = completo.substring(completo.lastIndexOf('.', completo.lastIndexOf('.') - 1) + 1);
+        Collection<String> chaves = resultado.getParams().getParamsKeys();
+        if (chaves.isEmpty()) {
+            return nome;
+        }
+        List<String> parametros = new ArrayList<>();
+        for (String chave : chaves) {
+            parametros.add(chave + "=" + resultado.getParams().getParam(chave));
+        }
+        return nome + parametros;
+    }
+
+    private static Double roundTripsPorOperacao(RunResult resultado) {
+        Map<String, Result> secundarios = resultado.getSecondaryResults();
+        Result<?> roundTrips = secundarios.get("roundTrips");
+        Result<?> operacoes = secundarios.get("operacoes");
+        if (roundTrips == null || operacoes == null || operacoes.getScore() == 0) {
+            return null;
+        }
+        return arredondar(roundTrips.getScore() / operacoes.getScore());
+    }
+
+    private static double arredondar(double valor) {
+        return Math.round(valor * 100) / 100.0;
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.cloudmatize.benchmarks;
+
+import br.com.cloudmatize.driver.CommandInterceptor;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Conta os comandos enviados ao ChromeDriver pelo driver, pelos elementos e pelas demais interfaces decoradas
+ * Métodos resolvidos localmente pelo cliente (manage, navigate, switchTo, getWrappedDriver...) são
+ * ignorados com o mesmo filtro do CommandInterceptor, de modo que cada chamada contada é um round trip HTTP
+ */
+public class ContadorRoundTrips implements WebDriverListener {
+    private final AtomicLong chamadas = new AtomicLong();
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (!CommandInterceptor.isMetodoLocal(method.getName())) {
+            chamadas.incrementAndGet();
+        }
+    }
+
+    public long total() {
+        return chamadas.get();
+    }
+}
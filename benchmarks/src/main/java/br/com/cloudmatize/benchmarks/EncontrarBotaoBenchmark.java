@@ -0,0 +1,74 @@
+package br.com.cloudmatize.benchmarks;
+
+import br.com.cloudmatize.utils.WebElementUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+
+/**
+ * Busca de botão por texto: a cascata de XPaths avaliada pelo Java, um findElements por estratégia,
+ * contra WebElementUtils.encontrarBotaoPorTexto, que avalia as mesmas estratégias em um único script
+ * "Get Sum" casa com a primeira estratégia; "Selenium Playground" (link da navbar) só com a nona
+ * A sessão roda com espera implícita zero, então a cascata é um limite inferior: com implicit.wait
+ * configurado, cada estratégia sem resultado ainda aguardaria a espera implícita inteira
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class EncontrarBotaoBenchmark extends SessaoNavegador {
+
+    @Param({"Get Sum", "Selenium Playground"})
+    public String texto;
+
+    @Override
+    protected String pagina() {
+        return "simple-form-demo";
+    }
+
+    @Benchmark
+    public WebElement cascataXPath(RoundTrips roundTrips) {
+        return medir(roundTrips, () -> {
+            for (String seletor : seletores(texto)) {
+                for (WebElement elemento : driver.findElements(By.xpath(seletor))) {
+                    if (elemento.isDisplayed() && elemento.isEnabled()) {
+                        return elemento;
+                    }
+                }
+            }
+            throw new IllegalStateException("Botão não encontrado: " + texto);
+        });
+    }
+
+    @Benchmark
+    public WebElement scriptUnico(RoundTrips roundTrips) {
+        return medir(roundTrips, () -> WebElementUtils.encontrarBotaoPorTexto(driver, texto));
+    }
+
+    /**
+     * Mesmas estratégias, na mesma ordem, de WebElementUtils.encontrarBotaoPorTexto
+     */
+    private static List<String> seletores(String texto) {
+        String minusculo = texto.toLowerCase();
+        return List.of(
+                String.format("//button[normalize-space(text())='%s']", texto),
+                String.format("//input[@type='button' and @value='%s']", texto),
+                String.format("//input[@type='submit' and @value='%s']", texto),
+                String.format("//button[contains(normalize-space(translate(text(), 'ABCDEFGHIJKLMNOPQRSTUVWXYZ', 'abcdefghijklmnopqrstuvwxyz')), '%s')]", minusculo),
+                String.format("//input[@type='button' and contains(normalize-space(translate(@value, 'ABCDEFGHIJKLMNOPQRSTUVWXYZ', 'abcdefghijklmnopqrstuvwxyz')), '%s')]", minusculo),
+                String.format("//input[@type='submit' and contains(normalize-space(translate(@value, 'ABCDEFGHIJKLMNOPQRSTUVWXYZ', 'abcdefghijklmnopqrstuvwxyz')), '%s')]", minusculo),
+                String.format("//*[contains(@class, 'btn') and normalize-space(text())='%s']", texto),
+                String.format("//*[@role='button' and normalize-space(text())='%s']", texto),
+                String.format("//a[normalize-space(text())='%s']", texto),
+                String.format("//*[contains(@class, 'button') and normalize-space(text())='%s']", texto),
+                String.format("//*[contains(@class, 'btn-') and normalize-space(text())='%s']", texto));
+    }
+}
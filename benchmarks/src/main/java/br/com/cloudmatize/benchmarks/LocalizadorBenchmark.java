@@ -0,0 +1,37 @@
+package br.com.cloudmatize.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Custo de localizar o mesmo elemento por CSS e por XPath
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class LocalizadorBenchmark extends SessaoNavegador {
+    private static final By OPCAO_CSS = By.cssSelector("select#multi-select option[value='Texas']");
+    private static final By OPCAO_XPATH = By.xpath("//select[@id='multi-select']/option[@value='Texas']");
+
+    @Override
+    protected String pagina() {
+        return "select-dropdown-demo";
+    }
+
+    @Benchmark
+    public WebElement cssSelector(RoundTrips roundTrips) {
+        return medir(roundTrips, () -> driver.findElement(OPCAO_CSS));
+    }
+
+    @Benchmark
+    public WebElement xpath(RoundTrips roundTrips) {
+        return medir(roundTrips, () -> driver.findElement(OPCAO_XPATH));
+    }
+}
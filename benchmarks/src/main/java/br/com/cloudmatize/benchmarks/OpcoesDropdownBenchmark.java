@@ -0,0 +1,46 @@
+package br.com.cloudmatize.benchmarks;
+
+import br.com.cloudmatize.utils.WebElementUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Leitura dos textos das opções do multi-select: WebElementUtils.obterOpcoesDropdown com
+ * getText em cada opção contra um único script que devolve todos os textos
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class OpcoesDropdownBenchmark extends SessaoNavegador {
+    private static final By MULTI_SELECT = By.id("multi-select");
+    private static final String SCRIPT_TEXTOS = "return Array.prototype.map.call("
+            + "document.querySelector(arguments[0]).options, function (o) { return o.text; });";
+
+    @Override
+    protected String pagina() {
+        return "select-dropdown-demo";
+    }
+
+    @Benchmark
+    public List<String> loopGetText(RoundTrips roundTrips) {
+        return medir(roundTrips, () -> WebElementUtils.obterOpcoesDropdown(driver, MULTI_SELECT).stream()
+                .map(WebElement::getText)
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public Object scriptUnico(RoundTrips roundTrips) {
+        return medir(roundTrips, () -> ((JavascriptExecutor) driver).executeScript(SCRIPT_TEXTOS, "#multi-select"));
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.cloudmatize.benchmarks;
+
+import br.com.cloudmatize.utils.WebElementUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+
+/**
+ * Preenchimento de campo: WebElementUtils.preencherCampo (clear + sendKeys + validação)
+ * contra um único script que atribui o valor e dispara os eventos input/change
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class PreencherCampoBenchmark extends SessaoNavegador {
+    private static final By CAMPO = By.id("user-message");
+    private static final String TEXTO = "Ola, este e um teste automatizado!";
+    private static final String SCRIPT_SETTER = "var el = document.querySelector(arguments[0]);"
+            + "el.value = arguments[1];"
+            + "el.dispatchEvent(new Event('input', {bubbles: true}));"
+            + "el.dispatchEvent(new Event('change', {bubbles: true}));"
+            + "return el.value;";
+
+    @Override
+    protected String pagina() {
+        return "simple-form-demo";
+    }
+
+    @Benchmark
+    public Object sendKeys(RoundTrips roundTrips) {
+        return medir(roundTrips, () -> {
+            WebElementUtils.preencherCampo(driver, CAMPO, TEXTO);
+            return CAMPO;
+        });
+    }
+
+    @Benchmark
+    public Object setterJavaScript(RoundTrips roundTrips) {
+        return medir(roundTrips, () -> ((JavascriptExecutor) driver).executeScript(SCRIPT_SETTER, "#user-message", TEXTO));
+    }
+}
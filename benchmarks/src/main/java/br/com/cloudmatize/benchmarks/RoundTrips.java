@@ -0,0 +1,24 @@
+package br.com.cloudmatize.benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Contadores auxiliares publicados pelo JMH junto com ops/s
+ * Ambos são totais da iteração; o BenchmarkRunner divide um pelo outro para obter round trips por operação
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class RoundTrips {
+    public long roundTrips;
+    public long operacoes;
+
+    @Setup(Level.Iteration)
+    public void zerar() {
+        roundTrips = 0;
+        operacoes = 0;
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.cloudmatize.benchmarks;
+
+import br.com.cloudmatize.config.ConfigManager;
+import br.com.cloudmatize.fixtures.FixtureServer;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+
+import java.util.function.Supplier;
+
+/**
+ * Sessão do Chrome headless aberta na página de fixture do benchmark
+ * O driver é decorado com o ContadorRoundTrips para que cada operação registre quantos
+ * comandos enviou ao navegador
+ */
+@State(Scope.Thread)
+public abstract class SessaoNavegador {
+    protected WebDriver driver;
+    private WebDriver driverOriginal;
+    private final ContadorRoundTrips contador = new ContadorRoundTrips();
+
+    /**
+     * Caminho da página de fixture relativo ao base.url (ex.: simple-form-demo)
+     */
+    protected abstract String pagina();
+
+    @Setup(Level.Trial)
+    public void iniciarSessao() {
+        FixtureServer.getInstance().iniciar();
+        // Benchmarks rodam sempre headless, independentemente de browser.headless
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless=new", "--no-sandbox", "--disable-dev-shm-usage",
+                "--disable-gpu", "--window-size=1920,1080");
+        driverOriginal = new ChromeDriver(options);
+        driver = new EventFiringDecorator<WebDriver>(contador).decorate(driverOriginal);
+        driver.get(ConfigManager.getInstance().getBaseUrl() + pagina());
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrarSessao() {
+        if (driverOriginal != null) {
+            driverOriginal.quit();
+        }
+        FixtureServer.encerrarSeAtivo();
+    }
+
+    /**
+     * Executa a operação contabilizando os round trips feitos por ela
+     */
+    protected <T> T medir(RoundTrips roundTrips, Supplier<T> operacao) {
+        long antes = contador.total();
+        T resultado = operacao.get();
+        roundTrips.roundTrips += contador.total() - antes;
+        roundTrips.operacoes++;
+        return resultado;
+    }
+}
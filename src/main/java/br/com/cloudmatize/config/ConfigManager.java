@@ -6,7 +6,13 @@ import org.apache.logging.log4j.Logger;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * Classe singleton robusta para gerenciar as configurações da aplicação
@@ -18,6 +24,7 @@ public class ConfigManager {
     private static final Logger logger = LogManager.getLogger(ConfigManager.class);
     private static volatile ConfigManager instance;
     private final Properties properties = new Properties();
+    private final Map<String, String> runtimeProperties = new ConcurrentHashMap<>();
     
     private static final String[] CONFIG_PATHS = {
         "src/main/resources/config.properties",
@@ -113,9 +120,14 @@ public class ConfigManager {
             logger.debug("================================");
         }
     }    /**
-     * Obtém uma propriedade, priorizando system properties sobre arquivo de configuração
+     * Obtém uma propriedade, priorizando valores definidos em tempo de execução,
+     * depois system properties e por fim o arquivo de configuração
      */
     public String getProperty(String key) {
+        String runtimeValue = runtimeProperties.get(key);
+        if (runtimeValue != null) {
+            return runtimeValue;
+        }
         String value = System.getProperty(key);
         if (value == null) {
             value = properties.getProperty(key);
@@ -174,6 +186,35 @@ public class ConfigManager {
         }
     }
 
+    /**
+     * Obtém propriedade como lista separada por vírgulas, ignorando itens vazios
+     */
+    public List<String> getListProperty(String key) {
+        String value = getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Sobrescreve uma propriedade em tempo de execução (ex.: base.url apontando para um servidor local)
+     */
+    public void setRuntimeProperty(String key, String value) {
+        runtimeProperties.put(key, value);
+        logger.info("Propriedade {} sobrescrita em tempo de execução: {}", key, value);
+    }
+
+    /**
+     * Remove a sobrescrita em tempo de execução, voltando ao valor configurado
+     */
+    public void clearRuntimeProperty(String key) {
+        runtimeProperties.remove(key);
+    }
+
     /**
      * Verifica se uma propriedade existe
      */
@@ -214,6 +255,26 @@ public class ConfigManager {
         return getBooleanProperty("screenshot.onfailure", true);
     }
 
+    public int getScreenshotAsyncThreads() {
+        return getIntProperty("screenshot.async.threads", 2);
+    }
+
+    public int getScreenshotAsyncQueue() {
+        return getIntProperty("screenshot.async.queue", 16);
+    }
+
+    public int getScreenshotMaxWidth() {
+        return getIntProperty("screenshot.max.width", 0);
+    }
+
+    public String getScreenshotFormat() {
+        return getProperty("screenshot.format", "png");
+    }
+
+    public int getScreenshotJpegQuality() {
+        return getIntProperty("screenshot.jpeg.quality", 80);
+    }
+
     public int getRetryCount() {
         return getIntProperty("retry.count", 2);
     }
@@ -235,6 +296,161 @@ public class ConfigManager {
         return getIntProperty("thread.pool.size", 5);
     }
 
+    public String getDriverStrategy() {
+        return getProperty("driver.strategy", "per-scenario").toLowerCase();
+    }
+
+    public int getDriverPoolMaxLeases() {
+        return getIntProperty("driver.pool.max.leases", 25);
+    }
+
+    public int getDriverPoolMaxIdle() {
+        return getIntProperty("driver.pool.max.idle", getPoolSize());
+    }
+
+    public int getDriverPrefetchDepth() {
+        return getIntProperty("driver.prefetch.depth", 0);
+    }
+
+    public boolean isLocatorCacheEnabled() {
+        return getBooleanProperty("locator.cache.enabled", true);
+    }
+
+    public String getLocatorCachePath() {
+        return getProperty("locator.cache.path", "target/locator-cache/locators.json");
+    }
+
+    public String getPageLoadStrategy() {
+        return getProperty("page.load.strategy", "normal").trim().toLowerCase();
+    }
+
+    public String getNavigationReadiness() {
+        return getProperty("navigation.readiness", "none").trim().toLowerCase();
+    }
+
+    public int getNetworkIdleQuietMs() {
+        return getIntProperty("network.idle.quiet.ms", 500);
+    }
+
+    public int getNetworkIdleMaxInflight() {
+        return getIntProperty("network.idle.max.inflight", 0);
+    }
+
+    public boolean isScreencastEnabled() {
+        return getBooleanProperty("screencast.enabled", false);
+    }
+
+    public int getScreencastSeconds() {
+        return getIntProperty("screencast.seconds", 10);
+    }
+
+    public int getScreencastMaxFps() {
+        return getIntProperty("screencast.max.fps", 4);
+    }
+
+    public int getScreencastQuality() {
+        return getIntProperty("screencast.quality", 50);
+    }
+
+    public int getScreencastMaxWidth() {
+        return getIntProperty("screencast.max.width", 800);
+    }
+
+    public int getScreencastMaxHeight() {
+        return getIntProperty("screencast.max.height", 600);
+    }
+
+    public String getScreencastDir() {
+        return getProperty("screencast.dir", "target/extent-reports/screencasts");
+    }
+
+    public String getTraceTag() {
+        return getProperty("trace.tag", "@trace");
+    }
+
+    public String getTraceDir() {
+        return getProperty("trace.dir", "target/traces");
+    }
+
+    public List<String> getTraceCategories() {
+        return getListProperty("trace.categories");
+    }
+
+    public boolean isPerformanceCaptureEnabled() {
+        return getBooleanProperty("performance.capture.enabled", false);
+    }
+
+    public String getPerformanceCaptureTag() {
+        return getProperty("performance.capture.tag", "@desempenho");
+    }
+
+    /**
+     * Orçamento de carregamento da página (performance.budget.<Página>), com performance.budget.default
+     * como alternativa; zero indica página sem orçamento
+     */
+    public int getPerformanceBudgetMs(String pagina) {
+        return getIntProperty("performance.budget." + pagina, getIntProperty("performance.budget.default", 0));
+    }
+
+    public boolean isCommandMetricsEnabled() {
+        return getBooleanProperty("command.metrics.enabled", false);
+    }
+
+    public boolean isResourceBlockingEnabled() {
+        return getBooleanProperty("resource.blocking.enabled", false);
+    }
+
+    public List<String> getResourceBlockingPatterns() {
+        return getListProperty("resource.blocking.patterns");
+    }
+
+    public List<String> getResourceBlockingAllowlist() {
+        return getListProperty("resource.blocking.allowlist");
+    }
+
+    public String getHttpReplayMode() {
+        return getProperty("http.replay.mode", "off").trim().toLowerCase();
+    }
+
+    public String getHttpReplayDir() {
+        return getProperty("http.replay.dir", "src/test/resources/replay");
+    }
+
+    public int getHttpReplayPort() {
+        return getIntProperty("http.replay.port", 0);
+    }
+
+    public boolean isFixtureServerEnabled() {
+        return getBooleanProperty("fixture.server.enabled", false);
+    }
+
+    public int getFixtureServerPort() {
+        return getIntProperty("fixture.server.port", 0);
+    }
+
+    public int getFixtureLatencyMs() {
+        return getIntProperty("fixture.latency.ms", 0);
+    }
+
+    public int getFixtureJitterMs() {
+        return getIntProperty("fixture.jitter.ms", 0);
+    }
+
+    /**
+     * Quantidades de workers medidas pelo ScalingBenchmarkRunner
+     */
+    public List<Integer> getScalingWorkers() {
+        List<String> valores = getListProperty("scaling.workers");
+        if (valores.isEmpty()) {
+            return Arrays.asList(1, 2, 4, 8, 16);
+        }
+        try {
+            return valores.stream().map(Integer::parseInt).collect(Collectors.toList());
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Valor inválido em scaling.workers: " + valores, e);
+        }
+    }
+
     public String getDownloadPath() {
         return getProperty("download.path", System.getProperty("user.dir") + "/downloads");
     }
@@ -0,0 +1,179 @@
+package br.com.cloudmatize.driver;
+
+import br.com.cloudmatize.config.ConfigManager;
+import com.google.gson.Gson;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Captura de trace de desempenho do Chrome (CDP Tracing) para cenários marcados com trace.tag
+ * Os eventos chegam em blocos pelo Tracing.dataCollected e são gravados no arquivo à medida que chegam,
+ * sem acumular o trace em memória. O arquivo {"traceEvents": [...]} abre no painel Performance do Chrome.
+ * Os listeners do DevTools são registrados uma única vez por sessão, já que pool e contextos
+ * compartilhados reaproveitam a mesma sessão em vários cenários.
+ */
+public class ChromeTracer {
+    private static final Logger logger = LogManager.getLogger(ChromeTracer.class);
+    private static final Map<WebDriver, ChromeTracer> tracers = new ConcurrentHashMap<>();
+    private static final Gson GSON = new Gson();
+    private static final long TEMPO_MAXIMO_FINALIZACAO_SEGUNDOS = 30;
+
+    private final DevTools devTools;
+    private volatile Gravacao gravacao;
+
+    private ChromeTracer(WebDriver driver) {
+        this.devTools = DriverFactory.obterDevTools(driver);
+        devTools.addListener(evento("Tracing.dataCollected"), dados -> {
+            Gravacao atual = gravacao;
+            if (atual != null) {
+                atual.escrever((List<?>) dados.get("value"));
+            }
+        });
+        devTools.addListener(evento("Tracing.tracingComplete"), dados -> {
+            Gravacao atual = gravacao;
+            if (atual != null) {
+                atual.concluido.countDown();
+            }
+        });
+    }
+
+    /**
+     * Inicia o trace da sessão do driver; o arquivo é target/traces/<cenário>.json (trace.dir)
+     * Falhas no DevTools apenas deixam o cenário sem trace
+     */
+    public static void iniciar(WebDriver driver, String cenario) {
+        Path arquivo = Paths.get(ConfigManager.getInstance().getTraceDir(), nomeArquivo(cenario));
+        try {
+            ChromeTracer tracer = tracers.computeIfAbsent(DriverFactory.desembrulhar(driver), ChromeTracer::new);
+            tracer.gravacao = new Gravacao(arquivo);
+            tracer.devTools.send(new Command<>("Tracing.start", Map.of(
+                    "transferMode", "ReportEvents",
+                    "traceConfig", Map.of(
+                            // Buffer não circular: o início do cenário não é sobrescrito em cenários longos
+                            "recordMode", "recordAsMuchAsPossible",
+                            "includedCategories", ConfigManager.getInstance().getTraceCategories()))));
+            logger.info("Trace do Chrome iniciado: {}", arquivo);
+        } catch (Exception e) {
+            logger.warn("Não foi possível iniciar o trace do Chrome: {}", e.getMessage());
+            descartarGravacao(driver);
+        }
+    }
+
+    /**
+     * Encerra o trace em andamento na sessão do driver e aguarda os últimos blocos serem gravados
+     * Retorna o arquivo gerado, ou null quando não havia trace ativo
+     */
+    public static Path finalizar(WebDriver driver) {
+        ChromeTracer tracer = driver != null ? tracers.get(DriverFactory.desembrulhar(driver)) : null;
+        Gravacao atual = tracer != null ? tracer.gravacao : null;
+        if (atual == null) {
+            return null;
+        }
+        try {
+            tracer.devTools.send(new Command<>("Tracing.end", Map.of()));
+            if (!atual.concluido.await(TEMPO_MAXIMO_FINALIZACAO_SEGUNDOS, TimeUnit.SECONDS)) {
+                logger.warn("Trace do Chrome não concluído em {} s; arquivo pode estar incompleto", TEMPO_MAXIMO_FINALIZACAO_SEGUNDOS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.warn("Erro ao encerrar o trace do Chrome: {}", e.getMessage());
+        } finally {
+            tracer.gravacao = null;
+            atual.fechar();
+        }
+        logger.info("Trace do Chrome gravado em {} ({} eventos)", atual.arquivo, atual.eventos);
+        return atual.arquivo;
+    }
+
+    /**
+     * Descarta o tracer do driver que está sendo finalizado
+     */
+    public static void descartar(WebDriver driver) {
+        ChromeTracer tracer = tracers.remove(DriverFactory.desembrulhar(driver));
+        if (tracer != null && tracer.gravacao != null) {
+            tracer.gravacao.fechar();
+        }
+    }
+
+    private static void descartarGravacao(WebDriver driver) {
+        ChromeTracer tracer = tracers.get(DriverFactory.desembrulhar(driver));
+        if (tracer != null && tracer.gravacao != null) {
+            tracer.gravacao.fechar();
+            tracer.gravacao = null;
+        }
+    }
+
+    private static String nomeArquivo(String cenario) {
+        String nome = cenario.replaceAll("[^A-Za-z0-9-_]+", "_").replaceAll("^_+|_+$", "");
+        return (nome.isEmpty() ? "cenario" : nome) + ".json";
+    }
+
+    private static Event<Map<String, Object>> evento(String nome) {
+        return new Event<>(nome, entrada -> entrada.read(Json.MAP_TYPE));
+    }
+
+    /**
+     * Arquivo de um trace em andamento, escrito bloco a bloco
+     */
+    private static final class Gravacao {
+        private final Path arquivo;
+        private final Writer writer;
+        private final CountDownLatch concluido = new CountDownLatch(1);
+        private long eventos;
+        private boolean fechado;
+
+        private Gravacao(Path arquivo) throws IOException {
+            this.arquivo = arquivo;
+            Files.createDirectories(arquivo.toAbsolutePath().getParent());
+            this.writer = Files.newBufferedWriter(arquivo, StandardCharsets.UTF_8);
+            writer.write("{\"traceEvents\":[\n");
+        }
+
+        private synchronized void escrever(List<?> bloco) {
+            if (fechado || bloco == null) {
+                return;
+            }
+            try {
+                for (Object evento : bloco) {
+                    if (eventos++ > 0) {
+                        writer.write(",\n");
+                    }
+                    writer.write(GSON.toJson(evento));
+                }
+            } catch (IOException e) {
+                logger.warn("Falha ao gravar bloco do trace em {}: {}", arquivo, e.getMessage());
+            }
+        }
+
+        private synchronized void fechar() {
+            if (fechado) {
+                return;
+            }
+            fechado = true;
+            try {
+                writer.write("\n]}\n");
+                writer.close();
+            } catch (IOException e) {
+                logger.warn("Falha ao fechar o trace {}: {}", arquivo, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package br.com.cloudmatize.driver;
+
+import br.com.cloudmatize.config.ConfigManager;
+import br.com.cloudmatize.jfr.DriverCommandEvent;
+import br.com.cloudmatize.utils.WaitEngine;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Listener que mede cada comando enviado pelo driver decorado (findElement, getText, executeScript...)
+ * e o registra no CommandMetrics, atribuído ao método de page object que o originou
+ * Buscas sem resultado também são enviadas ao ImplicitWaitWaste, exceto as sondagens do WaitEngine,
+ * que rodam com a espera implícita zerada (e nas quais um resultado vazio pode ser o esperado)
+ */
+public class CommandInterceptor implements WebDriverListener {
+    private static final String PACOTE_PAGINAS = "br.com.cloudmatize.pages.";
+    private static final String PACOTE_PROJETO = "br.com.cloudmatize.";
+    private static final String PACOTE_DRIVER = "br.com.cloudmatize.driver.";
+    // Métodos resolvidos localmente pelo cliente, sem comando enviado ao navegador
+    private static final Set<String> METODOS_LOCAIS = Set.of("manage", "navigate", "switchTo", "timeouts", "window",
+            "getWrappedDriver", "getWrappedElement", "getDevTools", "maybeGetDevTools", "getCapabilities",
+            "getSessionId", "getCommandExecutor", "getId", "toString", "hashCode", "equals");
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final ThreadLocal<Deque<Chamada>> chamadas = ThreadLocal.withInitial(ArrayDeque::new);
+    private final ThreadLocal<String> ultimaOrigem = new ThreadLocal<>();
+
+    /**
+     * Decora o driver com o interceptor quando command.metrics.enabled está ligado
+     */
+    public static WebDriver decorar(WebDriver driver) {
+        if (driver == null || !ConfigManager.getInstance().isCommandMetricsEnabled()) {
+            return driver;
+        }
+        return new EventFiringDecorator<WebDriver>(new CommandInterceptor()).decorate(driver);
+    }
+
+    /**
+     * Indica se o método é resolvido localmente pelo cliente, sem comando HTTP enviado ao ChromeDriver
+     */
+    public static boolean isMetodoLocal(String metodo) {
+        return METODOS_LOCAIS.contains(metodo);
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (!METODOS_LOCAIS.contains(method.getName())) {
+            chamadas.get().push(new Chamada(method.getName()));
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        Long duracao = finalizar(method, false);
+        if (duracao != null && isBusca(method, args)) {
+            boolean vazio = result instanceof List && ((List<?>) result).isEmpty();
+            if (vazio) {
+                registrarFalha(args, duracao);
+            } else {
+                ImplicitWaitWaste.registrarSucesso(args[0].toString(), ultimaOrigem.get());
+            }
+        }
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        Long duracao = finalizar(method, true);
+        if (duracao != null && isBusca(method, args) && e.getCause() instanceof NoSuchElementException) {
+            registrarFalha(args, duracao);
+        }
+    }
+
+    /**
+     * Busca sem resultado que consumiu a espera implícita; sondagens com a espera zerada não custam nada
+     */
+    private void registrarFalha(Object[] args, long duracao) {
+        if (!WaitEngine.isEsperaImplicitaZerada()) {
+            ImplicitWaitWaste.registrarFalha(args[0].toString(), ultimaOrigem.get(), duracao);
+        }
+    }
+
+    /**
+     * Registra o comando e devolve sua duração em nanossegundos (null para métodos locais)
+     */
+    private Long finalizar(Method method, boolean erro) {
+        if (METODOS_LOCAIS.contains(method.getName()) || chamadas.get().isEmpty()) {
+            return null;
+        }
+        Chamada chamada = chamadas.get().pop();
+        long duracao = System.nanoTime() - chamada.inicio;
+        String origem = origem();
+        ultimaOrigem.set(origem);
+        chamada.evento.finalizar(origem, erro);
+        CommandMetrics.registrar(method.getName(), origem, duracao, erro);
+        return duracao;
+    }
+
+    private static boolean isBusca(Method method, Object[] args) {
+        return (method.getName().equals("findElement") || method.getName().equals("findElements"))
+                && args != null && args.length == 1 && args[0] instanceof By;
+    }
+
+    /**
+     * Método de page object mais externo na pilha (ex.: SimpleFormPage.preencherPrimeiroNumero)
+     * Sem page object na pilha, usa o primeiro método do projeto fora do pacote driver (steps, hooks, utils)
+     */
+    private static String origem() {
+        return STACK_WALKER.walk(frames -> {
+            String paginaMaisExterna = null;
+            String primeiroDoProjeto = null;
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                String classe = frame.getClassName();
+                if (classe.startsWith(PACOTE_PAGINAS)) {
+                    paginaMaisExterna = descrever(frame);
+                } else if (primeiroDoProjeto == null && classe.startsWith(PACOTE_PROJETO) && !classe.startsWith(PACOTE_DRIVER)) {
+                    primeiroDoProjeto = descrever(frame);
+                }
+            }
+            if (paginaMaisExterna != null) {
+                return paginaMaisExterna;
+            }
+            return primeiroDoProjeto != null ? primeiroDoProjeto : "-";
+        });
+    }
+
+    private static String descrever(StackWalker.StackFrame frame) {
+        String classe = frame.getClassName();
+        return classe.substring(classe.lastIndexOf('.') + 1) + "." + frame.getMethodName();
+    }
+
+    /**
+     * Comando em andamento: instante de início e o evento JFR correspondente
+     */
+    private static final class Chamada {
+        private final long inicio = System.nanoTime();
+        private final DriverCommandEvent evento;
+
+        private Chamada(String comando) {
+            this.evento = new DriverCommandEvent(comando);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package br.com.cloudmatize.driver;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Contabilização dos comandos WebDriver registrados pelo CommandInterceptor
+ * Os comandos são atribuídos ao passo do Cucumber em execução na thread (definido pelo
+ * CommandMetricsPlugin) e ao método de page object que os originou; também há totais da execução
+ */
+public final class CommandMetrics {
+    private static final ThreadLocal<Passo> passoAtual = new ThreadLocal<>();
+    private static final Map<String, Estatistica> porComando = new ConcurrentHashMap<>();
+    private static final Map<String, Estatistica> porMetodoPagina = new ConcurrentHashMap<>();
+
+    private CommandMetrics() {
+    }
+
+    /**
+     * Inicia a contabilização de um passo na thread atual
+     */
+    public static void iniciarPasso(String descricao) {
+        passoAtual.set(new Passo(descricao));
+    }
+
+    /**
+     * Encerra o passo da thread atual e devolve o que foi contabilizado nele (null se não havia passo)
+     */
+    public static Passo finalizarPasso() {
+        Passo passo = passoAtual.get();
+        passoAtual.remove();
+        return passo;
+    }
+
+    static void registrar(String comando, String metodoPagina, long duracaoNanos, boolean erro) {
+        Passo passo = passoAtual.get();
+        if (passo != null) {
+            passo.registrar(comando, metodoPagina, duracaoNanos, erro);
+        }
+        porComando.computeIfAbsent(comando, chave -> new Estatistica()).adicionar(duracaoNanos, erro);
+        porMetodoPagina.computeIfAbsent(metodoPagina, chave -> new Estatistica()).adicionar(duracaoNanos, erro);
+    }
+
+    public static Map<String, Estatistica> getPorComando() {
+        return new TreeMap<>(porComando);
+    }
+
+    public static Map<String, Estatistica> getPorMetodoPagina() {
+        return new TreeMap<>(porMetodoPagina);
+    }
+
+    /**
+     * Quantidade, erros e duração acumulados de um grupo de comandos
+     */
+    public static final class Estatistica {
+        private long quantidade;
+        private long erros;
+        private long duracaoNanos;
+        private long maximoNanos;
+
+        synchronized void adicionar(long nanos, boolean erro) {
+            quantidade++;
+            duracaoNanos += nanos;
+            maximoNanos = Math.max(maximoNanos, nanos);
+            if (erro) {
+                erros++;
+            }
+        }
+
+        public synchronized long getQuantidade() {
+            return quantidade;
+        }
+
+        public synchronized long getErros() {
+            return erros;
+        }
+
+        public synchronized long getDuracaoMs() {
+            return duracaoNanos / 1_000_000;
+        }
+
+        public synchronized long getMaximoMs() {
+            return maximoNanos / 1_000_000;
+        }
+    }
+
+    /**
+     * Comandos contabilizados durante um passo do cenário
+     */
+    public static final class Passo {
+        private final String descricao;
+        private final Estatistica total = new Estatistica();
+        private final Map<String, Estatistica> comandos = new ConcurrentHashMap<>();
+        private final Map<String, Estatistica> metodosPagina = new ConcurrentHashMap<>();
+
+        private Passo(String descricao) {
+            this.descricao = descricao;
+        }
+
+        private void registrar(String comando, String metodoPagina, long duracaoNanos, boolean erro) {
+            total.adicionar(duracaoNanos, erro);
+            comandos.computeIfAbsent(comando, chave -> new Estatistica()).adicionar(duracaoNanos, erro);
+            metodosPagina.computeIfAbsent(metodoPagina, chave -> new Estatistica()).adicionar(duracaoNanos, erro);
+        }
+
+        public String getDescricao() {
+            return descricao;
+        }
+
+        public Estatistica getTotal() {
+            return total;
+        }
+
+        public Map<String, Estatistica> getComandos() {
+            return new TreeMap<>(comandos);
+        }
+
+        public Map<String, Estatistica> getMetodosPagina() {
+            return new TreeMap<>(metodosPagina);
+        }
+
+        /**
+         * Resumo em uma linha, ex.: "WebDriver: 7 comandos em 412 ms [findElement=3, getText=2, click=2]"
+         */
+        public String resumir() {
+            String detalhes = getComandos().entrySet().stream()
+                    .map(entrada -> entrada.getKey() + "=" + entrada.getValue().getQuantidade())
+                    .collect(Collectors.joining(", "));
+            return String.format("WebDriver: %d comandos em %d ms [%s]%s", total.getQuantidade(), total.getDuracaoMs(),
+                    detalhes, total.getErros() > 0 ? " | com erro: " + total.getErros() : "");
+        }
+    }
+}
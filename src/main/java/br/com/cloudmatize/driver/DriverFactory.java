@@ -1,8 +1,14 @@
 package br.com.cloudmatize.driver;
 
+import br.com.cloudmatize.config.ConfigManager;
+import br.com.cloudmatize.replay.ReplayRecorder;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
 import java.io.File;
 import java.util.UUID;
 import java.util.Random;
@@ -10,12 +16,50 @@ import java.util.Random;
 public class DriverFactory {
     
     private static final ThreadLocal<WebDriver> driverThreadLocal = new ThreadLocal<>();
+    private static final String STRATEGY_POOL = "pool";
+    private static final String STRATEGY_SHARED_CONTEXT = "shared-context";
     
     public static WebDriver getDriver() {
         return driverThreadLocal.get();
     }
     
+    /**
+     * Inicializa o WebDriver da thread atual conforme driver.strategy:
+     * per-scenario abre um novo Chrome, pool empresta uma sessão do DriverPool e
+     * shared-context cria um contexto isolado dentro de um Chrome compartilhado
+     */
     public static WebDriver initDriver() {
+        WebDriver driver;
+        switch (ConfigManager.getInstance().getDriverStrategy()) {
+            case STRATEGY_POOL:
+                driver = DriverPool.getInstance().obterDriver();
+                break;
+            case STRATEGY_SHARED_CONTEXT:
+                driver = SharedBrowserContexts.getInstance().obterDriver();
+                break;
+            default:
+                driver = criarDriver();
+        }
+        driverThreadLocal.set(CommandInterceptor.decorar(driver));
+        return getDriver();
+    }
+    
+    /**
+     * Cria uma nova sessão do ChromeDriver sem associá-la à thread atual
+     * Com driver.prefetch.depth maior que zero entrega uma sessão pré-aquecida em background
+     */
+    static WebDriver criarDriver() {
+        if (ConfigManager.getInstance().getDriverPrefetchDepth() > 0) {
+            return DriverPrefetcher.getInstance().obterDriver();
+        }
+        return iniciarChromeDriver(criarOpcoes());
+    }
+    
+    /**
+     * Monta as ChromeOptions da sessão
+     * Cada chamada gera porta de debug e user-data-dir próprios em CI
+     */
+    static ChromeOptions criarOpcoes() {
         ChromeOptions options = new ChromeOptions();
         
         // Configurações para ambientes CI/CD
@@ -84,27 +128,38 @@ public class DriverFactory {
             options.addArguments("--window-size=1920,1080");
             
             System.out.println("Chrome configurado para CI - Porta: " + debugPort + " - UserData: " + uniqueUserDataDir);
-        }        
+        }
+        options.setPageLoadStrategy(obterPageLoadStrategy());
+        return options;
+    }
+    
+    /**
+     * Estratégia de carregamento definida em page.load.strategy (normal, eager ou none)
+     * Com eager/none o driver.get retorna antes de todos os recursos da página terminarem de carregar
+     */
+    static PageLoadStrategy obterPageLoadStrategy() {
+        String configurada = ConfigManager.getInstance().getPageLoadStrategy();
+        PageLoadStrategy estrategia = PageLoadStrategy.fromString(configurada);
+        if (estrategia == null) {
+            throw new IllegalArgumentException("page.load.strategy inválida: " + configurada + " (use normal, eager ou none)");
+        }
+        return estrategia;
+    }
+    
+    /**
+     * Inicia o ChromeDriver com as opções informadas e aplica os timeouts
+     */
+    static WebDriver iniciarChromeDriver(ChromeOptions options) {
         WebDriver driver = null;
         try {
             System.out.println("=== INICIANDO CHROME DRIVER ===");
             driver = new ChromeDriver(options);
-              // Configurar timeouts estendidos para ambiente CI
-            if ("true".equals(ciEnv) || "true".equals(githubActions)) {
-                // Timeouts mais generosos para CI (runners podem ser mais lentos)
-                driver.manage().timeouts().implicitlyWait(java.time.Duration.ofSeconds(15));
-                driver.manage().timeouts().pageLoadTimeout(java.time.Duration.ofSeconds(60));
-                driver.manage().timeouts().scriptTimeout(java.time.Duration.ofSeconds(60));
-                System.out.println("Timeouts configurados para CI: Page=60s, Script=60s, Implicit=15s");
-            } else {
-                // Timeouts padrão para execução local
-                driver.manage().timeouts().implicitlyWait(java.time.Duration.ofSeconds(10));
-                driver.manage().timeouts().pageLoadTimeout(java.time.Duration.ofSeconds(30));
-                driver.manage().timeouts().scriptTimeout(java.time.Duration.ofSeconds(30));
-            }
+            configurarTimeouts(driver);
+            ResourceBlocker.aplicar(driver);
+            ReplayRecorder.aplicar(driver);
             
             // Maximiza a janela apenas se não estiver em headless
-            if (!"true".equals(ciEnv) && !"true".equals(githubActions)) {
+            if (!isAmbienteCI()) {
                 try {
                     driver.manage().window().maximize();
                 } catch (Exception e) {
@@ -124,22 +179,137 @@ public class DriverFactory {
             throw new RuntimeException("Falha ao inicializar o WebDriver: " + e.getMessage(), e);
         }
         
-        driverThreadLocal.set(driver);
         return driver;
     }
     
+    /**
+     * Aplica os timeouts padrão da sessão, mais generosos em CI
+     */
+    static void configurarTimeouts(WebDriver driver) {
+        if (isAmbienteCI()) {
+            // Timeouts mais generosos para CI (runners podem ser mais lentos)
+            driver.manage().timeouts().implicitlyWait(getImplicitWait());
+            driver.manage().timeouts().pageLoadTimeout(java.time.Duration.ofSeconds(60));
+            driver.manage().timeouts().scriptTimeout(java.time.Duration.ofSeconds(60));
+            System.out.println("Timeouts configurados para CI: Page=60s, Script=60s, Implicit=15s");
+        } else {
+            // Timeouts padrão para execução local
+            driver.manage().timeouts().implicitlyWait(getImplicitWait());
+            driver.manage().timeouts().pageLoadTimeout(java.time.Duration.ofSeconds(30));
+            driver.manage().timeouts().scriptTimeout(java.time.Duration.ofSeconds(30));
+        }
+    }
+    
+    /**
+     * Espera implícita aplicada às sessões criadas pela factory
+     */
+    public static java.time.Duration getImplicitWait() {
+        return java.time.Duration.ofSeconds(isAmbienteCI() ? 15 : 10);
+    }
+    
+    private static boolean isAmbienteCI() {
+        return "true".equals(System.getenv("CI")) || "true".equals(System.getenv("GITHUB_ACTIONS"));
+    }
+    
+    /**
+     * Libera o driver da thread atual ao final do cenário
+     * Com pool ativo a sessão é resetada e devolvida; com contexto compartilhado o contexto é descartado;
+     * caso contrário o Chrome é finalizado
+     */
+    public static void releaseDriver() {
+        WebDriver driver = desembrulhar(driverThreadLocal.get());
+        if (driver == null) {
+            return;
+        }
+        try {
+            switch (ConfigManager.getInstance().getDriverStrategy()) {
+                case STRATEGY_POOL:
+                    DriverPool.getInstance().devolverDriver(driver);
+                    break;
+                case STRATEGY_SHARED_CONTEXT:
+                    SharedBrowserContexts.getInstance().liberarDriver(driver);
+                    break;
+                default:
+                    encerrarDriver(driver);
+            }
+        } finally {
+            driverThreadLocal.remove();
+        }
+    }
+    
     public static void quitDriver() {
-        WebDriver driver = driverThreadLocal.get();
+        WebDriver driver = desembrulhar(driverThreadLocal.get());
         if (driver != null) {
             try {
-                System.out.println("=== FINALIZANDO CHROME DRIVER ===");
-                driver.quit();
-                System.out.println("=== CHROME DRIVER FINALIZADO ===");
-            } catch (Exception e) {
-                System.err.println("Erro ao finalizar driver: " + e.getMessage());
+                switch (ConfigManager.getInstance().getDriverStrategy()) {
+                    case STRATEGY_POOL:
+                        DriverPool.getInstance().descartarDriver(driver);
+                        break;
+                    case STRATEGY_SHARED_CONTEXT:
+                        SharedBrowserContexts.getInstance().liberarDriver(driver);
+                        break;
+                    default:
+                        encerrarDriver(driver);
+                }
             } finally {
                 driverThreadLocal.remove();
             }
         }
     }
+    
+    /**
+     * Finaliza as sessões mantidas pelo pool ou o navegador compartilhado ao término da execução
+     */
+    public static void shutdown() {
+        switch (ConfigManager.getInstance().getDriverStrategy()) {
+            case STRATEGY_POOL:
+                DriverPool.getInstance().encerrar();
+                break;
+            case STRATEGY_SHARED_CONTEXT:
+                SharedBrowserContexts.getInstance().encerrar();
+                break;
+            default:
+                break;
+        }
+        if (ConfigManager.getInstance().getDriverPrefetchDepth() > 0) {
+            DriverPrefetcher.getInstance().encerrar();
+        }
+    }
+    
+    /**
+     * Sessão do DevTools ligada à aba atual do driver, criada apenas na primeira chamada
+     * A aba é informada explicitamente para que, no Chrome compartilhado, a sessão não se anexe a outro contexto
+     */
+    public static DevTools obterDevTools(WebDriver driver) {
+        WebDriver original = desembrulhar(driver);
+        DevTools devTools = ((HasDevTools) original).getDevTools();
+        devTools.createSessionIfThereIsNotOne(original.getWindowHandle());
+        return devTools;
+    }
+    
+    /**
+     * Driver original por trás do decorator do CommandInterceptor
+     * Pool, contextos compartilhados e monitores são indexados pela instância original
+     */
+    public static WebDriver desembrulhar(WebDriver driver) {
+        while (driver instanceof WrapsDriver) {
+            driver = ((WrapsDriver) driver).getWrappedDriver();
+        }
+        return driver;
+    }
+    
+    static void encerrarDriver(WebDriver driver) {
+        NetworkIdleMonitor.descartar(driver);
+        ResourceBlocker.descartar(driver);
+        ChromeTracer.descartar(driver);
+        ScreencastRecorder.descartar(driver);
+        ReplayRecorder.descartar(driver);
+        try {
+            System.out.println("=== FINALIZANDO CHROME DRIVER ===");
+            driver.quit();
+            System.out.println("=== CHROME DRIVER FINALIZADO ===");
+        } catch (Exception e) {
+            System.err.println("Erro ao finalizar driver: " + e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,222 @@
+package br.com.cloudmatize.driver;
+
+import br.com.cloudmatize.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool de sessões do WebDriver reaproveitadas entre cenários
+ * Empresta sessões já abertas e, na devolução, limpa cookies, storage e janelas extras
+ * Sessões são recicladas após um número configurável de empréstimos ou quando falham no health check
+ */
+public class DriverPool {
+    private static final Logger logger = LogManager.getLogger(DriverPool.class);
+    private static volatile DriverPool instance;
+
+    private final ConfigManager config = ConfigManager.getInstance();
+    private final LinkedBlockingDeque<SessaoPool> sessoesLivres = new LinkedBlockingDeque<>();
+    private final Map<WebDriver, SessaoPool> sessoesEmprestadas = new ConcurrentHashMap<>();
+    private final AtomicInteger sessoesCriadas = new AtomicInteger();
+    private final AtomicInteger emprestimosReaproveitados = new AtomicInteger();
+    private volatile boolean encerrado;
+
+    private DriverPool() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::encerrar, "driver-pool-shutdown"));
+    }
+
+    /**
+     * Thread-safe singleton com double-checked locking
+     */
+    public static DriverPool getInstance() {
+        if (instance == null) {
+            synchronized (DriverPool.class) {
+                if (instance == null) {
+                    instance = new DriverPool();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Empresta uma sessão livre que esteja saudável ou cria uma nova
+     */
+    public WebDriver obterDriver() {
+        SessaoPool sessao;
+        while ((sessao = sessoesLivres.pollFirst()) != null) {
+            if (estaSaudavel(sessao.driver)) {
+                emprestimosReaproveitados.incrementAndGet();
+                break;
+            }
+            logger.warn("Sessão do pool falhou no health check e será descartada");
+            DriverFactory.encerrarDriver(sessao.driver);
+        }
+        if (sessao == null) {
+            sessao = new SessaoPool(DriverFactory.criarDriver());
+            sessoesCriadas.incrementAndGet();
+        }
+        sessao.emprestimos++;
+        sessoesEmprestadas.put(sessao.driver, sessao);
+        logger.debug("Sessão emprestada pelo pool (empréstimo {} desta sessão)", sessao.emprestimos);
+        return sessao.driver;
+    }
+
+    /**
+     * Devolve a sessão ao pool após resetar seu estado
+     * Sessões que atingiram o limite de empréstimos ou falharam no reset são finalizadas
+     */
+    public void devolverDriver(WebDriver driver) {
+        SessaoPool sessao = sessoesEmprestadas.remove(driver);
+        if (sessao == null) {
+            DriverFactory.encerrarDriver(driver);
+            return;
+        }
+        if (sessao.emprestimos >= config.getDriverPoolMaxLeases()) {
+            logger.info("Sessão atingiu {} empréstimos e será reciclada", sessao.emprestimos);
+            DriverFactory.encerrarDriver(driver);
+            return;
+        }
+        if (!resetar(sessao) || !estaSaudavel(driver)) {
+            logger.warn("Falha ao resetar sessão do pool. Sessão será descartada");
+            DriverFactory.encerrarDriver(driver);
+            return;
+        }
+        // Verificação e devolução sob o mesmo lock de encerrar(), para que nenhuma sessão fique fora do pool
+        boolean devolvida;
+        synchronized (this) {
+            devolvida = !encerrado && sessoesLivres.size() < Math.max(1, config.getDriverPoolMaxIdle());
+            if (devolvida) {
+                sessoesLivres.offerFirst(sessao);
+            }
+        }
+        if (!devolvida) {
+            DriverFactory.encerrarDriver(driver);
+        }
+    }
+
+    /**
+     * Remove a sessão do pool e finaliza o navegador
+     */
+    public void descartarDriver(WebDriver driver) {
+        sessoesEmprestadas.remove(driver);
+        DriverFactory.encerrarDriver(driver);
+    }
+
+    /**
+     * Finaliza todas as sessões livres e emprestadas
+     */
+    public synchronized void encerrar() {
+        if (encerrado) {
+            return;
+        }
+        encerrado = true;
+        SessaoPool sessao;
+        while ((sessao = sessoesLivres.pollFirst()) != null) {
+            DriverFactory.encerrarDriver(sessao.driver);
+        }
+        for (WebDriver driver : sessoesEmprestadas.keySet()) {
+            DriverFactory.encerrarDriver(driver);
+        }
+        sessoesEmprestadas.clear();
+        logger.info("Pool de drivers encerrado. Sessões criadas: {}, empréstimos reaproveitados: {}",
+                sessoesCriadas.get(), emprestimosReaproveitados.get());
+    }
+
+    /**
+     * Limpa o estado deixado pelo cenário: janelas extras, storage, cookies e página atual
+     * Com CDP, storage e cookies são limpos em todas as origens visitadas, não só na da página atual
+     */
+    private boolean resetar(SessaoPool sessao) {
+        WebDriver driver = sessao.driver;
+        try {
+            for (String handle : driver.getWindowHandles()) {
+                if (!handle.equals(sessao.janelaPrincipal)) {
+                    driver.switchTo().window(handle);
+                    driver.close();
+                }
+            }
+            driver.switchTo().window(sessao.janelaPrincipal);
+
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+
+            if (driver instanceof HasCdp) {
+                HasCdp cdp = (HasCdp) driver;
+                for (String origem : origensVisitadas(cdp)) {
+                    cdp.executeCdpCommand("Storage.clearDataForOrigin", Map.of("origin", origem, "storageTypes", "all"));
+                    // sessionStorage não faz parte do Storage.clearDataForOrigin e sobrevive na mesma aba
+                    cdp.executeCdpCommand("DOMStorage.clear", Map.of("storageId",
+                            Map.of("securityOrigin", origem, "isLocalStorage", false)));
+                }
+                // Remove cookies de todos os domínios, não apenas do documento atual
+                cdp.executeCdpCommand("Network.clearBrowserCookies", Collections.emptyMap());
+            } else {
+                driver.manage().deleteAllCookies();
+            }
+
+            driver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            logger.debug("Erro ao resetar sessão: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Origens http(s) do histórico de navegação da aba principal
+     */
+    private Set<String> origensVisitadas(HasCdp cdp) {
+        Set<String> origens = new LinkedHashSet<>();
+        Object entradas = cdp.executeCdpCommand("Page.getNavigationHistory", Collections.emptyMap()).get("entries");
+        if (entradas instanceof List) {
+            for (Object entrada : (List<?>) entradas) {
+                Object url = entrada instanceof Map ? ((Map<?, ?>) entrada).get("url") : null;
+                try {
+                    URI uri = URI.create(String.valueOf(url));
+                    if ("http".equals(uri.getScheme()) || "https".equals(uri.getScheme())) {
+                        origens.add(uri.getScheme() + "://" + uri.getHost() + (uri.getPort() != -1 ? ":" + uri.getPort() : ""));
+                    }
+                } catch (IllegalArgumentException e) {
+                    logger.debug("URL ignorada na limpeza de storage: {}", url);
+                }
+            }
+        }
+        return origens;
+    }
+
+    private boolean estaSaudavel(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Sessão mantida pelo pool com seu contador de empréstimos
+     */
+    private static final class SessaoPool {
+        private final WebDriver driver;
+        private final String janelaPrincipal;
+        private int emprestimos;
+
+        private SessaoPool(WebDriver driver) {
+            this.driver = driver;
+            this.janelaPrincipal = driver.getWindowHandle();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package br.com.cloudmatize.driver;
+
+import br.com.cloudmatize.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pré-aquece sessões do ChromeDriver em background
+ * Sempre que uma sessão é entregue, a próxima começa a ser criada com a mesma configuração,
+ * tirando a inicialização do Chrome do caminho crítico entre cenários
+ */
+public class DriverPrefetcher {
+    private static final Logger logger = LogManager.getLogger(DriverPrefetcher.class);
+    private static volatile DriverPrefetcher instance;
+
+    private final ConfigManager config = ConfigManager.getInstance();
+    private final LinkedBlockingDeque<Future<DriverPreAquecido>> filaPrefetch = new LinkedBlockingDeque<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "driver-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicInteger sessoesPreAquecidas = new AtomicInteger();
+    private final AtomicInteger sessoesSincronas = new AtomicInteger();
+    private final AtomicLong tempoEconomizadoMs = new AtomicLong();
+    private volatile boolean encerrado;
+
+    private DriverPrefetcher() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::encerrar, "driver-prefetch-shutdown"));
+    }
+
+    /**
+     * Thread-safe singleton com double-checked locking
+     */
+    public static DriverPrefetcher getInstance() {
+        if (instance == null) {
+            synchronized (DriverPrefetcher.class) {
+                if (instance == null) {
+                    instance = new DriverPrefetcher();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Entrega a próxima sessão pré-aquecida e agenda a criação da seguinte
+     * Sem sessão disponível (primeira chamada ou falha no prefetch) cria de forma síncrona
+     */
+    public WebDriver obterDriver() {
+        Future<DriverPreAquecido> proxima = filaPrefetch.pollFirst();
+        reabastecer();
+
+        boolean interrompida = false;
+        if (proxima != null) {
+            long inicioEspera = System.nanoTime();
+            try {
+                DriverPreAquecido preAquecido = proxima.get();
+                long esperaMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicioEspera);
+                long economizadoMs = Math.max(0, preAquecido.inicializacaoMs - esperaMs);
+                sessoesPreAquecidas.incrementAndGet();
+                tempoEconomizadoMs.addAndGet(economizadoMs);
+                logger.debug("Sessão pré-aquecida entregue. Inicialização: {} ms, espera: {} ms",
+                        preAquecido.inicializacaoMs, esperaMs);
+                return preAquecido.driver;
+            } catch (InterruptedException e) {
+                // A sessão em criação volta para a fila e será entregue na próxima chamada
+                filaPrefetch.offerFirst(proxima);
+                interrompida = true;
+                logger.warn("Espera pela sessão pré-aquecida interrompida. Criando de forma síncrona");
+            } catch (ExecutionException e) {
+                logger.warn("Falha ao pré-aquecer sessão do Chrome: {}. Criando de forma síncrona",
+                        e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            }
+        }
+
+        sessoesSincronas.incrementAndGet();
+        try {
+            return DriverFactory.iniciarChromeDriver(DriverFactory.criarOpcoes());
+        } finally {
+            // O interrupt é restaurado só depois da criação, que falharia com a flag ligada
+            if (interrompida) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Mantém a fila com driver.prefetch.depth sessões em criação ou prontas
+     */
+    private synchronized void reabastecer() {
+        if (encerrado) {
+            return;
+        }
+        int profundidade = config.getDriverPrefetchDepth();
+        while (filaPrefetch.size() < profundidade) {
+            filaPrefetch.offerLast(executor.submit(() -> {
+                long inicio = System.nanoTime();
+                WebDriver driver = DriverFactory.iniciarChromeDriver(DriverFactory.criarOpcoes());
+                return new DriverPreAquecido(driver, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio));
+            }));
+        }
+    }
+
+    /**
+     * Resumo do ganho obtido com o prefetch na execução atual
+     */
+    public String obterResumo() {
+        return String.format("Prefetch de drivers - sessões pré-aquecidas: %d, criadas de forma síncrona: %d, "
+                        + "tempo de inicialização economizado: %d ms",
+                sessoesPreAquecidas.get(), sessoesSincronas.get(), tempoEconomizadoMs.get());
+    }
+
+    /**
+     * Interrompe o prefetch e finaliza as sessões que não chegaram a ser usadas
+     */
+    public synchronized void encerrar() {
+        if (encerrado) {
+            return;
+        }
+        encerrado = true;
+        executor.shutdown();
+        Future<DriverPreAquecido> pendente;
+        while ((pendente = filaPrefetch.pollFirst()) != null) {
+            try {
+                DriverFactory.encerrarDriver(pendente.get(60, TimeUnit.SECONDS).driver);
+            } catch (Exception e) {
+                pendente.cancel(true);
+            }
+        }
+        logger.info(obterResumo());
+    }
+
+    /**
+     * Sessão criada em background com o tempo gasto na inicialização
+     */
+    private static final class DriverPreAquecido {
+        private final WebDriver driver;
+        private final long inicializacaoMs;
+
+        private DriverPreAquecido(WebDriver driver, long inicializacaoMs) {
+            this.driver = driver;
+            this.inicializacaoMs = inicializacaoMs;
+        }
+    }
+}
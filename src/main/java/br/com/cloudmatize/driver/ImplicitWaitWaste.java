@@ -0,0 +1,132 @@
+package br.com.cloudmatize.driver;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Tempo gasto em buscas de elementos que terminam sem resultado (NoSuchElementException ou
+ * findElements vazio), que consomem a espera implícita inteira sem proveito
+ * As falhas ficam pendentes na thread até a próxima busca bem-sucedida do mesmo método de page object,
+ * cujo localizador é sugerido como substituto; o ranking é montado ao final da execução
+ */
+public final class ImplicitWaitWaste {
+    private static final ThreadLocal<List<Falha>> pendentes = ThreadLocal.withInitial(ArrayList::new);
+    private static final Map<String, Desperdicio> desperdicios = new ConcurrentHashMap<>();
+
+    private ImplicitWaitWaste() {
+    }
+
+    static void registrarFalha(String localizador, String metodoPagina, long duracaoNanos) {
+        consolidarSeOutroMetodo(metodoPagina);
+        pendentes.get().add(new Falha(localizador, metodoPagina, duracaoNanos));
+    }
+
+    static void registrarSucesso(String localizador, String metodoPagina) {
+        consolidarSeOutroMetodo(metodoPagina);
+        consolidar(localizador);
+    }
+
+    /**
+     * Contabiliza as falhas pendentes da thread sem sugestão (ex.: ao final do passo)
+     */
+    public static void consolidarThread() {
+        consolidar(null);
+        pendentes.remove();
+    }
+
+    /**
+     * Localizadores que mais desperdiçaram tempo, do pior para o melhor
+     */
+    public static List<Desperdicio> ranking(int limite) {
+        return desperdicios.values().stream()
+                .sorted(Comparator.comparingLong(Desperdicio::getDuracaoMs).reversed())
+                .limit(limite)
+                .collect(Collectors.toList());
+    }
+
+    private static void consolidarSeOutroMetodo(String metodoPagina) {
+        List<Falha> falhas = pendentes.get();
+        if (!falhas.isEmpty() && !falhas.get(falhas.size() - 1).metodoPagina.equals(metodoPagina)) {
+            consolidar(null);
+        }
+    }
+
+    private static void consolidar(String sugestao) {
+        List<Falha> falhas = pendentes.get();
+        for (Falha falha : falhas) {
+            // O mesmo localizador encontrado depois indica atraso de renderização, não localizador errado
+            String sugerido = falha.localizador.equals(sugestao) ? null : sugestao;
+            desperdicios.computeIfAbsent(falha.metodoPagina + " | " + falha.localizador,
+                    chave -> new Desperdicio(falha.localizador, falha.metodoPagina))
+                    .adicionar(falha.duracaoNanos, sugerido);
+        }
+        falhas.clear();
+    }
+
+    private static final class Falha {
+        private final String localizador;
+        private final String metodoPagina;
+        private final long duracaoNanos;
+
+        private Falha(String localizador, String metodoPagina, long duracaoNanos) {
+            this.localizador = localizador;
+            this.metodoPagina = metodoPagina;
+            this.duracaoNanos = duracaoNanos;
+        }
+    }
+
+    /**
+     * Tempo desperdiçado por um localizador dentro de um método de page object
+     */
+    public static final class Desperdicio {
+        private final String localizador;
+        private final String metodoPagina;
+        private final Map<String, Integer> sugestoes = new TreeMap<>();
+        private long ocorrencias;
+        private long duracaoNanos;
+
+        private Desperdicio(String localizador, String metodoPagina) {
+            this.localizador = localizador;
+            this.metodoPagina = metodoPagina;
+        }
+
+        private synchronized void adicionar(long nanos, String sugestao) {
+            ocorrencias++;
+            duracaoNanos += nanos;
+            if (sugestao != null) {
+                sugestoes.merge(sugestao, 1, Integer::sum);
+            }
+        }
+
+        public String getLocalizador() {
+            return localizador;
+        }
+
+        public String getMetodoPagina() {
+            return metodoPagina;
+        }
+
+        public synchronized long getOcorrencias() {
+            return ocorrencias;
+        }
+
+        public synchronized long getDuracaoMs() {
+            return duracaoNanos / 1_000_000;
+        }
+
+        /**
+         * Localizador que mais vezes encontrou o elemento logo após a falha, ou null se nenhum encontrou
+         */
+        public synchronized String getSugestao() {
+            return sugestoes.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .map(Map.Entry::getKey)
+                    .orElse(null);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package br.com.cloudmatize.driver;
+
+import br.com.cloudmatize.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.json.Json;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Monitor de atividade de rede baseado nos eventos do Chrome DevTools
+ * Acompanha Network.requestWillBeSent / loadingFinished / loadingFailed da aba do driver
+ * para responder "houve N ms de silêncio na rede" e "não há XHR/fetch em andamento",
+ * permitindo que a navegação termine quando a página está utilizável
+ */
+public class NetworkIdleMonitor {
+    private static final Logger logger = LogManager.getLogger(NetworkIdleMonitor.class);
+    private static final Map<WebDriver, NetworkIdleMonitor> monitores = new ConcurrentHashMap<>();
+
+    private final Object trava = new Object();
+    // requestId -> tipo do recurso (Document, Script, XHR, Fetch...)
+    private final Map<String, String> requisicoesEmVoo = new ConcurrentHashMap<>();
+    private final boolean ativo;
+    private volatile long ultimaAtividadeNanos = System.nanoTime();
+
+    private NetworkIdleMonitor(WebDriver driver) {
+        this.ativo = assinarEventos(driver);
+    }
+
+    /**
+     * Monitor associado ao driver, criado e ligado na primeira chamada
+     * Deve ser obtido antes da navegação para enxergar as requisições da página
+     */
+    public static NetworkIdleMonitor para(WebDriver driver) {
+        return monitores.computeIfAbsent(DriverFactory.desembrulhar(driver), NetworkIdleMonitor::new);
+    }
+
+    /**
+     * Descarta o monitor do driver que está sendo finalizado
+     */
+    public static void descartar(WebDriver driver) {
+        monitores.remove(DriverFactory.desembrulhar(driver));
+    }
+
+    /**
+     * Marca o início de uma navegação: requisições da página anterior deixam de contar
+     */
+    public void iniciarNavegacao() {
+        registrarAtividade(requisicoesEmVoo::clear);
+    }
+
+    /**
+     * Aguarda a rede ficar em silêncio pelo período informado, tolerando até
+     * network.idle.max.inflight requisições longas em andamento (ex.: long-polling de terceiros)
+     */
+    public boolean aguardarSilencioRede(Duration silencio, Duration orcamento) {
+        int toleranciaEmVoo = ConfigManager.getInstance().getNetworkIdleMaxInflight();
+        return aguardarCondicao(orcamento, () -> {
+            long silencioAtualNanos = System.nanoTime() - ultimaAtividadeNanos;
+            return requisicoesEmVoo.size() <= toleranciaEmVoo && silencioAtualNanos >= silencio.toNanos();
+        }, "silêncio de rede de " + silencio.toMillis() + " ms");
+    }
+
+    /**
+     * Aguarda não haver nenhuma requisição XHR ou fetch em andamento
+     */
+    public boolean aguardarSemXhr(Duration orcamento) {
+        return aguardarCondicao(orcamento, () -> requisicoesEmVoo.values().stream()
+                .noneMatch(tipo -> "XHR".equals(tipo) || "Fetch".equals(tipo)), "ausência de XHR em andamento");
+    }
+
+    /**
+     * Quantidade de requisições iniciadas e ainda não concluídas
+     */
+    public int requisicoesEmAndamento() {
+        return requisicoesEmVoo.size();
+    }
+
+    public boolean isAtivo() {
+        return ativo;
+    }
+
+    private boolean aguardarCondicao(Duration orcamento, BooleanSupplier condicao, String descricao) {
+        if (!ativo) {
+            return true;
+        }
+        long limite = System.nanoTime() + orcamento.toNanos();
+        synchronized (trava) {
+            while (!condicao.getAsBoolean()) {
+                long restanteMs = Duration.ofNanos(limite - System.nanoTime()).toMillis();
+                if (restanteMs <= 0) {
+                    logger.debug("Tempo esgotado aguardando {} ({} requisições em andamento)",
+                            descricao, requisicoesEmVoo.size());
+                    return false;
+                }
+                try {
+                    // Reavalia a cada evento de rede ou periodicamente para o critério de silêncio
+                    trava.wait(Math.min(restanteMs, 50));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean assinarEventos(WebDriver driver) {
+        try {
+            DevTools devTools = DriverFactory.obterDevTools(driver);
+            devTools.addListener(evento("Network.requestWillBeSent"), dados ->
+                    registrarAtividade(() -> requisicoesEmVoo.put(String.valueOf(dados.get("requestId")),
+                            String.valueOf(dados.get("type")))));
+            devTools.addListener(evento("Network.loadingFinished"), dados ->
+                    registrarAtividade(() -> requisicoesEmVoo.remove(String.valueOf(dados.get("requestId")))));
+            devTools.addListener(evento("Network.loadingFailed"), dados ->
+                    registrarAtividade(() -> requisicoesEmVoo.remove(String.valueOf(dados.get("requestId")))));
+            devTools.send(new Command<>("Network.enable", Map.of()));
+            logger.debug("Monitor de rede ativo para a sessão");
+            return true;
+        } catch (Exception e) {
+            logger.warn("Eventos de rede do DevTools indisponíveis, prontidão por rede desativada: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void registrarAtividade(Runnable atualizacao) {
+        synchronized (trava) {
+            atualizacao.run();
+            ultimaAtividadeNanos = System.nanoTime();
+            trava.notifyAll();
+        }
+    }
+
+    private static Event<Map<String, Object>> evento(String nome) {
+        return new Event<>(nome, entrada -> entrada.read(Json.MAP_TYPE));
+    }
+}
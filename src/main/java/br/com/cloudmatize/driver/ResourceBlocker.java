@@ -0,0 +1,152 @@
+package br.com.cloudmatize.driver;
+
+import br.com.cloudmatize.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.json.Json;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Bloqueio de recursos de terceiros nas sessões de teste
+ * Imagens, fontes, widgets de chat e rastreadores não são usados pelos page objects; os padrões de
+ * resource.blocking.patterns são bloqueados via CDP Network.setBlockedURLs. Quando há
+ * resource.blocking.allowlist, o bloqueio passa pelo domínio Fetch para liberar as exceções.
+ * Também contabiliza, por cenário, as requisições bloqueadas e os bytes efetivamente transferidos.
+ */
+public class ResourceBlocker {
+    private static final Logger logger = LogManager.getLogger(ResourceBlocker.class);
+    private static final Map<WebDriver, ResourceBlocker> bloqueadores = new ConcurrentHashMap<>();
+
+    private final List<Pattern> excecoes;
+    private final AtomicInteger requisicoesBloqueadas = new AtomicInteger();
+    private final AtomicInteger requisicoesConcluidas = new AtomicInteger();
+    private final AtomicLong bytesTransferidos = new AtomicLong();
+    private final Map<String, AtomicInteger> bloqueadasPorTipo = new ConcurrentHashMap<>();
+
+    private ResourceBlocker(WebDriver driver, List<String> padroes, List<String> allowlist) {
+        this.excecoes = allowlist.stream().map(ResourceBlocker::converterCuringa).collect(Collectors.toList());
+        DevTools devTools = DriverFactory.obterDevTools(driver);
+        devTools.addListener(evento("Network.loadingFailed"), this::registrarFalha);
+        devTools.addListener(evento("Network.loadingFinished"), dados -> {
+            requisicoesConcluidas.incrementAndGet();
+            Object bytes = dados.get("encodedDataLength");
+            if (bytes instanceof Number) {
+                bytesTransferidos.addAndGet(((Number) bytes).longValue());
+            }
+        });
+        devTools.send(new Command<>("Network.enable", Map.of()));
+
+        if (excecoes.isEmpty()) {
+            devTools.send(new Command<>("Network.setBlockedURLs", Map.of("urls", padroes)));
+        } else {
+            // Apenas as requisições que casam com a lista de bloqueio são pausadas e avaliadas contra a allowlist
+            devTools.addListener(evento("Fetch.requestPaused"), dados -> decidirRequisicaoPausada(devTools, dados));
+            List<Map<String, Object>> filtros = padroes.stream()
+                    .map(padrao -> Map.<String, Object>of("urlPattern", padrao))
+                    .collect(Collectors.toList());
+            devTools.send(new Command<>("Fetch.enable", Map.of("patterns", filtros)));
+        }
+        logger.debug("Bloqueio de recursos ativo com {} padrões e {} exceções", padroes.size(), excecoes.size());
+    }
+
+    /**
+     * Ativa o bloqueio na sessão recém-criada quando resource.blocking.enabled está ligado
+     * Falhas no DevTools apenas desativam o bloqueio para a sessão
+     */
+    public static void aplicar(WebDriver driver) {
+        ConfigManager config = ConfigManager.getInstance();
+        List<String> padroes = config.getResourceBlockingPatterns();
+        if (!config.isResourceBlockingEnabled() || padroes.isEmpty()) {
+            return;
+        }
+        try {
+            bloqueadores.computeIfAbsent(driver,
+                    d -> new ResourceBlocker(d, padroes, config.getResourceBlockingAllowlist()));
+        } catch (Exception e) {
+            logger.warn("Não foi possível ativar o bloqueio de recursos: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Resumo do cenário atual e reinício dos contadores para o próximo cenário da mesma sessão
+     * Retorna null quando o bloqueio não está ativo no driver
+     */
+    public static String obterResumoCenario(WebDriver driver) {
+        ResourceBlocker bloqueador = driver != null ? bloqueadores.get(DriverFactory.desembrulhar(driver)) : null;
+        if (bloqueador == null) {
+            return null;
+        }
+        Map<String, Integer> porTipo = new TreeMap<>();
+        bloqueador.bloqueadasPorTipo.forEach((tipo, contador) -> porTipo.put(tipo, contador.getAndSet(0)));
+        porTipo.values().removeIf(quantidade -> quantidade == 0);
+        return String.format("Recursos bloqueados: %d requisições %s | Transferidos: %d requisições, %d KB",
+                bloqueador.requisicoesBloqueadas.getAndSet(0), porTipo,
+                bloqueador.requisicoesConcluidas.getAndSet(0), bloqueador.bytesTransferidos.getAndSet(0) / 1024);
+    }
+
+    /**
+     * Descarta o bloqueador do driver que está sendo finalizado
+     */
+    public static void descartar(WebDriver driver) {
+        bloqueadores.remove(driver);
+    }
+
+    private void registrarFalha(Map<String, Object> dados) {
+        boolean bloqueada = dados.get("blockedReason") != null
+                || String.valueOf(dados.get("errorText")).contains("ERR_BLOCKED_BY_CLIENT");
+        if (bloqueada) {
+            requisicoesBloqueadas.incrementAndGet();
+            bloqueadasPorTipo.computeIfAbsent(String.valueOf(dados.get("type")), tipo -> new AtomicInteger())
+                    .incrementAndGet();
+        }
+    }
+
+    private void decidirRequisicaoPausada(DevTools devTools, Map<String, Object> dados) {
+        Object requestId = dados.get("requestId");
+        Object request = dados.get("request");
+        String url = request instanceof Map ? String.valueOf(((Map<?, ?>) request).get("url")) : "";
+        try {
+            if (excecoes.stream().anyMatch(excecao -> excecao.matcher(url).matches())) {
+                devTools.send(new Command<>("Fetch.continueRequest", Map.of("requestId", requestId)));
+            } else {
+                devTools.send(new Command<>("Fetch.failRequest",
+                        Map.of("requestId", requestId, "errorReason", "BlockedByClient")));
+            }
+        } catch (Exception e) {
+            logger.debug("Erro ao decidir requisição pausada {}: {}", url, e.getMessage());
+        }
+    }
+
+    /**
+     * Converte o padrão com curingas do CDP ('*' e '?') em expressão regular
+     */
+    private static Pattern converterCuringa(String padrao) {
+        StringBuilder regex = new StringBuilder();
+        for (char caractere : padrao.toCharArray()) {
+            if (caractere == '*') {
+                regex.append(".*");
+            } else if (caractere == '?') {
+                regex.append('.');
+            } else {
+                regex.append(Pattern.quote(String.valueOf(caractere)));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    private static Event<Map<String, Object>> evento(String nome) {
+        return new Event<>(nome, entrada -> entrada.read(Json.MAP_TYPE));
+    }
+}
@@ -0,0 +1,300 @@
+package br.com.cloudmatize.driver;
+
+import br.com.cloudmatize.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.json.Json;
+import org.w3c.dom.Node;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Screencast de falha: os quadros do CDP Page.startScreencast (JPEG em baixa resolução) ficam em um
+ * buffer circular pré-alocado por sessão, cobrindo os últimos screencast.seconds segundos
+ * Somente quando o cenário falha os quadros são copiados e gravados como GIF animado (em background); nos
+ * cenários aprovados o custo se limita a decodificar o base64 de no máximo screencast.max.fps quadros
+ * por segundo para uma área de memória fixa. O Chrome já envia apenas um a cada everyNthFrame quadros
+ * compostos, derivado de screencast.max.fps.
+ */
+public class ScreencastRecorder {
+    private static final Logger logger = LogManager.getLogger(ScreencastRecorder.class);
+    private static final Map<WebDriver, ScreencastRecorder> gravadores = new ConcurrentHashMap<>();
+    // Tamanho inicial de cada posição do buffer; quadros maiores ampliam apenas a própria posição
+    private static final int BYTES_INICIAIS_POR_QUADRO = 48 * 1024;
+    private static final int ATRASO_ULTIMO_QUADRO_CENTESIMOS = 150;
+    // Taxa de composição de referência do Chrome, usada para derivar o everyNthFrame
+    private static final int QUADROS_POR_SEGUNDO_CHROME = 60;
+
+    private final DevTools devTools;
+    private final Quadro[] quadros;
+    private final long intervaloMinimoMs;
+    private final long janelaMs;
+    private int proximo;
+    private int quantidade;
+    private long ultimoQuadroMs = Long.MIN_VALUE;
+    private volatile boolean ativo;
+
+    private ScreencastRecorder(WebDriver driver) {
+        ConfigManager config = ConfigManager.getInstance();
+        int fps = Math.max(1, config.getScreencastMaxFps());
+        this.janelaMs = Math.max(1, config.getScreencastSeconds()) * 1000L;
+        this.intervaloMinimoMs = 1000L / fps;
+        this.quadros = new Quadro[(int) (janelaMs / 1000) * fps];
+        for (int i = 0; i < quadros.length; i++) {
+            quadros[i] = new Quadro();
+        }
+        this.devTools = DriverFactory.obterDevTools(driver);
+        devTools.addListener(evento("Page.screencastFrame"), this::receberQuadro);
+    }
+
+    /**
+     * Inicia a captura para o cenário que está começando, descartando quadros de cenários anteriores
+     * Falhas no DevTools apenas deixam o cenário sem screencast
+     */
+    public static void iniciar(WebDriver driver) {
+        ConfigManager config = ConfigManager.getInstance();
+        if (driver == null || !config.isScreencastEnabled()) {
+            return;
+        }
+        try {
+            ScreencastRecorder gravador = gravadores.computeIfAbsent(DriverFactory.desembrulhar(driver), ScreencastRecorder::new);
+            gravador.limpar();
+            gravador.ativo = true;
+            gravador.devTools.send(new Command<>("Page.enable", Map.of()));
+            gravador.devTools.send(new Command<>("Page.startScreencast", Map.of(
+                    "format", "jpeg",
+                    "quality", config.getScreencastQuality(),
+                    "maxWidth", config.getScreencastMaxWidth(),
+                    "maxHeight", config.getScreencastMaxHeight(),
+                    // Limita os quadros na origem, sem o custo de receber, decodificar e confirmar os descartados
+                    "everyNthFrame", Math.max(1, QUADROS_POR_SEGUNDO_CHROME / Math.max(1, config.getScreencastMaxFps())))));
+        } catch (Exception e) {
+            logger.warn("Não foi possível iniciar o screencast: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Encerra a captura do cenário; se ele falhou, copia os quadros do buffer e devolve o screencast
+     * a ser gravado (null quando o cenário passou ou não há quadros)
+     * A codificação do GIF fica a cargo do chamador, fora da thread do cenário
+     */
+    public static Screencast finalizar(WebDriver driver, boolean falhou, String cenario) {
+        ScreencastRecorder gravador = driver != null ? gravadores.get(DriverFactory.desembrulhar(driver)) : null;
+        if (gravador == null || !gravador.ativo) {
+            return null;
+        }
+        gravador.ativo = false;
+        try {
+            gravador.devTools.send(new Command<>("Page.stopScreencast", Map.of()));
+        } catch (Exception e) {
+            logger.debug("Erro ao encerrar o screencast: {}", e.getMessage());
+        }
+        if (!falhou) {
+            gravador.limpar();
+            return null;
+        }
+        List<byte[]> imagens = new ArrayList<>();
+        List<Long> instantes = new ArrayList<>();
+        gravador.copiarJanela(imagens, instantes);
+        gravador.limpar();
+        if (imagens.isEmpty()) {
+            logger.warn("Nenhum quadro de screencast disponível para o cenário {}", cenario);
+            return null;
+        }
+        Path arquivo = Paths.get(ConfigManager.getInstance().getScreencastDir(), nomeArquivo(cenario));
+        return new Screencast(arquivo, imagens, instantes);
+    }
+
+    /**
+     * Descarta o gravador do driver que está sendo finalizado
+     */
+    public static void descartar(WebDriver driver) {
+        gravadores.remove(DriverFactory.desembrulhar(driver));
+    }
+
+    private void receberQuadro(Map<String, Object> dados) {
+        // Sem o ack o Chrome deixa de enviar quadros
+        try {
+            devTools.send(new Command<>("Page.screencastFrameAck", Map.of("sessionId", dados.get("sessionId"))));
+        } catch (Exception e) {
+            logger.debug("Erro ao confirmar quadro do screencast: {}", e.getMessage());
+        }
+        if (!ativo) {
+            return;
+        }
+        long instanteMs = System.currentTimeMillis();
+        Object metadados = dados.get("metadata");
+        if (metadados instanceof Map && ((Map<?, ?>) metadados).get("timestamp") instanceof Number) {
+            instanteMs = Math.round(((Number) ((Map<?, ?>) metadados).get("timestamp")).doubleValue() * 1000);
+        }
+        synchronized (this) {
+            if (instanteMs - ultimoQuadroMs < intervaloMinimoMs) {
+                return;
+            }
+            ultimoQuadroMs = instanteMs;
+            quadros[proximo].guardar(String.valueOf(dados.get("data")), instanteMs);
+            proximo = (proximo + 1) % quadros.length;
+            quantidade = Math.min(quantidade + 1, quadros.length);
+        }
+    }
+
+    private synchronized void limpar() {
+        proximo = 0;
+        quantidade = 0;
+        ultimoQuadroMs = Long.MIN_VALUE;
+    }
+
+    /**
+     * Copia, em ordem cronológica, os quadros dentro da janela de screencast.seconds
+     */
+    private synchronized void copiarJanela(List<byte[]> imagens, List<Long> instantes) {
+        int inicio = (proximo - quantidade + quadros.length) % quadros.length;
+        long limite = quantidade > 0 ? quadros[(proximo - 1 + quadros.length) % quadros.length].instanteMs - janelaMs : 0;
+        for (int i = 0; i < quantidade; i++) {
+            Quadro quadro = quadros[(inicio + i) % quadros.length];
+            if (quadro.instanteMs >= limite) {
+                byte[] copia = new byte[quadro.tamanho];
+                System.arraycopy(quadro.dados, 0, copia, 0, quadro.tamanho);
+                imagens.add(copia);
+                instantes.add(quadro.instanteMs);
+            }
+        }
+    }
+
+    /**
+     * GIF animado em loop, com o atraso de cada quadro igual ao intervalo real até o seguinte
+     */
+    private static void gravarGif(Path arquivo, List<byte[]> imagens, List<Long> instantes) throws IOException {
+        Files.createDirectories(arquivo.toAbsolutePath().getParent());
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("gif").next();
+        try (ImageOutputStream saida = ImageIO.createImageOutputStream(arquivo.toFile())) {
+            writer.setOutput(saida);
+            writer.prepareWriteSequence(null);
+            for (int i = 0; i < imagens.size(); i++) {
+                BufferedImage imagem = ImageIO.read(new ByteArrayInputStream(imagens.get(i)));
+                if (imagem == null) {
+                    continue;
+                }
+                int atraso = i + 1 < imagens.size()
+                        ? (int) Math.max(1, (instantes.get(i + 1) - instantes.get(i)) / 10)
+                        : ATRASO_ULTIMO_QUADRO_CENTESIMOS;
+                IIOMetadata metadados = writer.getDefaultImageMetadata(ImageTypeSpecifier.createFromRenderedImage(imagem), null);
+                configurarQuadroGif(metadados, atraso, i == 0);
+                writer.writeToSequence(new IIOImage(imagem, null, metadados), null);
+            }
+            writer.endWriteSequence();
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static void configurarQuadroGif(IIOMetadata metadados, int atrasoCentesimos, boolean primeiro) throws IOException {
+        String formato = metadados.getNativeMetadataFormatName();
+        IIOMetadataNode raiz = (IIOMetadataNode) metadados.getAsTree(formato);
+        IIOMetadataNode controle = obterFilho(raiz, "GraphicControlExtension");
+        controle.setAttribute("disposalMethod", "none");
+        controle.setAttribute("userInputFlag", "FALSE");
+        controle.setAttribute("transparentColorFlag", "FALSE");
+        controle.setAttribute("delayTime", String.valueOf(atrasoCentesimos));
+        controle.setAttribute("transparentColorIndex", "0");
+        if (primeiro) {
+            // Extensão NETSCAPE2.0 com repetição infinita
+            IIOMetadataNode extensao = new IIOMetadataNode("ApplicationExtension");
+            extensao.setAttribute("applicationID", "NETSCAPE");
+            extensao.setAttribute("authenticationCode", "2.0");
+            extensao.setUserObject(new byte[]{1, 0, 0});
+            obterFilho(raiz, "ApplicationExtensions").appendChild(extensao);
+        }
+        metadados.setFromTree(formato, raiz);
+    }
+
+    private static IIOMetadataNode obterFilho(IIOMetadataNode raiz, String nome) {
+        for (Node filho = raiz.getFirstChild(); filho != null; filho = filho.getNextSibling()) {
+            if (filho.getNodeName().equals(nome)) {
+                return (IIOMetadataNode) filho;
+            }
+        }
+        IIOMetadataNode novo = new IIOMetadataNode(nome);
+        raiz.appendChild(novo);
+        return novo;
+    }
+
+    private static String nomeArquivo(String cenario) {
+        String nome = cenario.replaceAll("[^A-Za-z0-9-_]+", "_").replaceAll("^_+|_+$", "");
+        return (nome.isEmpty() ? "cenario" : nome) + ".gif";
+    }
+
+    private static Event<Map<String, Object>> evento(String nome) {
+        return new Event<>(nome, entrada -> entrada.read(Json.MAP_TYPE));
+    }
+
+    /**
+     * Quadros copiados do buffer de um cenário que falhou, prontos para a gravação do GIF
+     */
+    public static final class Screencast {
+        private final Path arquivo;
+        private final List<byte[]> imagens;
+        private final List<Long> instantes;
+
+        private Screencast(Path arquivo, List<byte[]> imagens, List<Long> instantes) {
+            this.arquivo = arquivo;
+            this.imagens = imagens;
+            this.instantes = instantes;
+        }
+
+        /**
+         * Grava o GIF em screencast.dir/<cenário>.gif e devolve o arquivo (null em caso de erro)
+         */
+        public Path gravar() {
+            try {
+                gravarGif(arquivo, imagens, instantes);
+                logger.info("Screencast da falha gravado em {} ({} quadros)", arquivo, imagens.size());
+                return arquivo;
+            } catch (IOException e) {
+                logger.warn("Falha ao gravar o screencast {}: {}", arquivo, e.getMessage());
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Posição do buffer circular; o array é reaproveitado entre quadros
+     */
+    private static final class Quadro {
+        private byte[] dados = new byte[BYTES_INICIAIS_POR_QUADRO];
+        private int tamanho;
+        private long instanteMs;
+
+        private void guardar(String base64, long instanteMs) {
+            byte[] codificado = base64.getBytes(StandardCharsets.ISO_8859_1);
+            int necessario = codificado.length / 4 * 3;
+            if (dados.length < necessario) {
+                dados = new byte[necessario];
+            }
+            this.tamanho = Base64.getDecoder().decode(codificado, dados);
+            this.instanteMs = instanteMs;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package br.com.cloudmatize.driver;
+
+import br.com.cloudmatize.replay.ReplayRecorder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Execução com um único processo do Chrome compartilhado entre cenários paralelos
+ * Cada cenário recebe um browser context próprio (equivalente a uma janela anônima),
+ * criado via CDP Target.createBrowserContext, e uma sessão do ChromeDriver anexada ao
+ * mesmo Chrome pelo debuggerAddress. Ao final do cenário o contexto é descartado
+ * em vez de finalizar o navegador.
+ */
+public class SharedBrowserContexts {
+    private static final Logger logger = LogManager.getLogger(SharedBrowserContexts.class);
+    private static volatile SharedBrowserContexts instance;
+
+    private final Map<WebDriver, String> contextosPorDriver = new ConcurrentHashMap<>();
+    private WebDriver navegadorCompartilhado;
+    private String debuggerAddress;
+    private volatile boolean encerrado;
+
+    private SharedBrowserContexts() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::encerrar, "shared-browser-shutdown"));
+    }
+
+    /**
+     * Thread-safe singleton com double-checked locking
+     */
+    public static SharedBrowserContexts getInstance() {
+        if (instance == null) {
+            synchronized (SharedBrowserContexts.class) {
+                if (instance == null) {
+                    instance = new SharedBrowserContexts();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Cria um browser context isolado e devolve um driver já posicionado na aba desse contexto
+     */
+    public WebDriver obterDriver() {
+        String contextId;
+        String targetId;
+        String endereco;
+        synchronized (this) {
+            garantirNavegadorCompartilhado();
+            Map<String, Object> contexto = executarCdp("Target.createBrowserContext", Map.of("disposeOnDetach", false));
+            contextId = (String) contexto.get("browserContextId");
+            Map<String, Object> alvo = executarCdp("Target.createTarget",
+                    Map.of("url", "about:blank", "browserContextId", contextId));
+            targetId = (String) alvo.get("targetId");
+            endereco = debuggerAddress;
+        }
+
+        try {
+            ChromeOptions opcoes = new ChromeOptions();
+            opcoes.setExperimentalOption("debuggerAddress", endereco);
+            opcoes.setPageLoadStrategy(DriverFactory.obterPageLoadStrategy());
+            WebDriver driver = new ChromeDriver(opcoes);
+            // O ChromeDriver identifica as janelas pelo targetId do CDP
+            driver.switchTo().window(targetId);
+            DriverFactory.configurarTimeouts(driver);
+            ResourceBlocker.aplicar(driver);
+            ReplayRecorder.aplicar(driver);
+            contextosPorDriver.put(driver, contextId);
+            logger.debug("Browser context {} criado para o cenário", contextId);
+            return driver;
+        } catch (Exception e) {
+            descartarContexto(contextId);
+            throw new RuntimeException("Falha ao anexar sessão ao Chrome compartilhado: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Encerra a sessão anexada e descarta o browser context do cenário
+     * O quit de uma sessão anexada via debuggerAddress não finaliza o Chrome compartilhado
+     */
+    public void liberarDriver(WebDriver driver) {
+        String contextId = contextosPorDriver.remove(driver);
+        NetworkIdleMonitor.descartar(driver);
+        ResourceBlocker.descartar(driver);
+        ChromeTracer.descartar(driver);
+        ScreencastRecorder.descartar(driver);
+        ReplayRecorder.descartar(driver);
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            logger.debug("Erro ao encerrar sessão anexada: {}", e.getMessage());
+        }
+        if (contextId != null) {
+            descartarContexto(contextId);
+        }
+    }
+
+    /**
+     * Descarta os contextos restantes e finaliza o Chrome compartilhado
+     */
+    public synchronized void encerrar() {
+        if (encerrado) {
+            return;
+        }
+        encerrado = true;
+        for (WebDriver driver : contextosPorDriver.keySet()) {
+            liberarDriver(driver);
+        }
+        if (navegadorCompartilhado != null) {
+            DriverFactory.encerrarDriver(navegadorCompartilhado);
+            navegadorCompartilhado = null;
+            logger.info("Chrome compartilhado finalizado");
+        }
+    }
+
+    private void garantirNavegadorCompartilhado() {
+        if (encerrado) {
+            throw new IllegalStateException("Chrome compartilhado já foi finalizado");
+        }
+        if (navegadorCompartilhado != null) {
+            return;
+        }
+        navegadorCompartilhado = DriverFactory.iniciarChromeDriver(DriverFactory.criarOpcoes());
+        // O ChromeDriver informa nas capabilities a porta de debug usada pelo Chrome que iniciou
+        Object chromeOptions = ((HasCapabilities) navegadorCompartilhado).getCapabilities().getCapability("goog:chromeOptions");
+        if (!(chromeOptions instanceof Map) || ((Map<?, ?>) chromeOptions).get("debuggerAddress") == null) {
+            throw new IllegalStateException("ChromeDriver não informou o debuggerAddress do Chrome compartilhado");
+        }
+        debuggerAddress = String.valueOf(((Map<?, ?>) chromeOptions).get("debuggerAddress"));
+        logger.info("Chrome compartilhado iniciado em {}", debuggerAddress);
+    }
+
+    private synchronized void descartarContexto(String contextId) {
+        if (navegadorCompartilhado == null) {
+            return;
+        }
+        try {
+            executarCdp("Target.disposeBrowserContext", Map.of("browserContextId", contextId));
+            logger.debug("Browser context {} descartado", contextId);
+        } catch (Exception e) {
+            logger.warn("Erro ao descartar browser context {}: {}", contextId, e.getMessage());
+        }
+    }
+
+    private Map<String, Object> executarCdp(String comando, Map<String, Object> parametros) {
+        return ((HasCdp) navegadorCompartilhado).executeCdpCommand(comando, parametros);
+    }
+}
@@ -0,0 +1,199 @@
+package br.com.cloudmatize.fixtures;
+
+import br.com.cloudmatize.config.ConfigManager;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Servidor HTTP local com réplicas estáticas das páginas do Selenium Playground
+ * (Simple Form Demo, Select Dropdown List e Radio Buttons Demo) usando os mesmos ids da página real.
+ * Sobe dentro da JVM de teste e sobrescreve base.url em tempo de execução; cada resposta, inclusive o
+ * endpoint api/ping usado pelos botões antes de exibir o resultado, sofre fixture.latency.ms mais
+ * um atraso aleatório de até fixture.jitter.ms, permitindo medir as estratégias de espera sob lentidão.
+ */
+public class FixtureServer {
+    private static final Logger logger = LogManager.getLogger(FixtureServer.class);
+    private static final String CAMINHO_BASE = "/selenium-playground/";
+    private static final String DIRETORIO_RECURSOS = "fixtures/";
+    private static final String ENDPOINT_PING = "api/ping";
+    private static volatile FixtureServer instance;
+
+    private final AtomicInteger respostasServidas = new AtomicInteger();
+    private HttpServer servidor;
+    private ExecutorService executor;
+    private int latenciaMs;
+    private int jitterMs;
+
+    private FixtureServer() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::encerrar, "fixture-server-shutdown"));
+    }
+
+    /**
+     * Thread-safe singleton com double-checked locking
+     */
+    public static FixtureServer getInstance() {
+        if (instance == null) {
+            synchronized (FixtureServer.class) {
+                if (instance == null) {
+                    instance = new FixtureServer();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Sobe o servidor quando fixture.server.enabled=true; caso contrário não faz nada
+     */
+    public static void iniciarSeConfigurado() {
+        if (ConfigManager.getInstance().isFixtureServerEnabled()) {
+            getInstance().iniciar();
+        }
+    }
+
+    /**
+     * Finaliza o servidor caso ele tenha sido iniciado nesta execução
+     */
+    public static void encerrarSeAtivo() {
+        if (instance != null) {
+            instance.encerrar();
+        }
+    }
+
+    /**
+     * Sobe o servidor em uma porta local e redireciona base.url para ele
+     */
+    public synchronized void iniciar() {
+        if (servidor != null) {
+            return;
+        }
+        ConfigManager config = ConfigManager.getInstance();
+        latenciaMs = Math.max(0, config.getFixtureLatencyMs());
+        jitterMs = Math.max(0, config.getFixtureJitterMs());
+        try {
+            servidor = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), config.getFixtureServerPort()), 0);
+        } catch (IOException e) {
+            throw new RuntimeException("Falha ao iniciar servidor de fixtures: " + e.getMessage(), e);
+        }
+        // Pool sem limite para que a latência injetada não serialize as requisições paralelas
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "fixture-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        servidor.setExecutor(executor);
+        servidor.createContext(CAMINHO_BASE, this::responder);
+        servidor.start();
+
+        config.setRuntimeProperty("base.url", getUrlBase());
+        logger.info("Servidor de fixtures ativo em {} (latência {} ms, jitter {} ms)", getUrlBase(), latenciaMs, jitterMs);
+    }
+
+    /**
+     * Finaliza o servidor e restaura base.url
+     */
+    public synchronized void encerrar() {
+        if (servidor == null) {
+            return;
+        }
+        servidor.stop(0);
+        executor.shutdownNow();
+        servidor = null;
+        ConfigManager.getInstance().clearRuntimeProperty("base.url");
+        logger.info("Servidor de fixtures finalizado. Respostas servidas: {}", respostasServidas.get());
+    }
+
+    /**
+     * URL da página inicial servida localmente, equivalente ao base.url original
+     */
+    public synchronized String getUrlBase() {
+        if (servidor == null) {
+            throw new IllegalStateException("Servidor de fixtures não iniciado");
+        }
+        return "http://" + servidor.getAddress().getHostString() + ":" + servidor.getAddress().getPort() + CAMINHO_BASE;
+    }
+
+    private void responder(HttpExchange troca) throws IOException {
+        try {
+            aplicarLatencia();
+            String recurso = troca.getRequestURI().getPath().substring(CAMINHO_BASE.length());
+            if (ENDPOINT_PING.equals(recurso)) {
+                enviar(troca, 200, "text/plain; charset=utf-8", "ok".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            String arquivo = resolverArquivo(recurso);
+            byte[] conteudo = lerRecurso(arquivo);
+            if (conteudo == null) {
+                logger.debug("Fixture inexistente: {}", troca.getRequestURI());
+                enviar(troca, 404, "text/plain; charset=utf-8", new byte[0]);
+                return;
+            }
+            enviar(troca, 200, tipoConteudo(arquivo), conteudo);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            troca.close();
+        }
+    }
+
+    private void aplicarLatencia() throws InterruptedException {
+        long atraso = latenciaMs + (jitterMs > 0 ? ThreadLocalRandom.current().nextInt(jitterMs + 1) : 0);
+        if (atraso > 0) {
+            Thread.sleep(atraso);
+        }
+    }
+
+    private void enviar(HttpExchange troca, int status, String contentType, byte[] corpo) throws IOException {
+        troca.getResponseHeaders().set("Content-Type", contentType);
+        troca.getResponseHeaders().set("Cache-Control", "no-store");
+        respostasServidas.incrementAndGet();
+        troca.sendResponseHeaders(status, corpo.length == 0 ? -1 : corpo.length);
+        if (corpo.length > 0) {
+            try (OutputStream saida = troca.getResponseBody()) {
+                saida.write(corpo);
+            }
+        }
+    }
+
+    /**
+     * Mapeia a rota da página real para o arquivo da fixture (ex.: simple-form-demo -> simple-form-demo.html)
+     */
+    private static String resolverArquivo(String recurso) {
+        if (recurso.isEmpty()) {
+            return "index.html";
+        }
+        return recurso.contains(".") ? recurso : recurso + ".html";
+    }
+
+    private static byte[] lerRecurso(String arquivo) throws IOException {
+        if (arquivo.contains("..")) {
+            return null;
+        }
+        try (InputStream entrada = FixtureServer.class.getClassLoader().getResourceAsStream(DIRETORIO_RECURSOS + arquivo)) {
+            return entrada != null ? entrada.readAllBytes() : null;
+        }
+    }
+
+    private static String tipoConteudo(String arquivo) {
+        if (arquivo.endsWith(".js")) {
+            return "application/javascript; charset=utf-8";
+        }
+        if (arquivo.endsWith(".css")) {
+            return "text/css; charset=utf-8";
+        }
+        return "text/html; charset=utf-8";
+    }
+}
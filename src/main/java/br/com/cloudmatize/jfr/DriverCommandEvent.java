@@ -0,0 +1,41 @@
+package br.com.cloudmatize.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR de um comando enviado ao navegador, emitido pelo CommandInterceptor
+ */
+@Name("br.com.cloudmatize.DriverCommand")
+@Label("Comando WebDriver")
+@Category({"Cloudmatize", "WebDriver"})
+@Description("Comando WebDriver com o método de page object que o originou")
+public class DriverCommandEvent extends jdk.jfr.Event {
+    @Label("Comando")
+    private final String comando;
+
+    @Label("Método de página")
+    private String metodoPagina;
+
+    @Label("Erro")
+    private boolean erro;
+
+    public DriverCommandEvent(String comando) {
+        this.comando = comando;
+        begin();
+    }
+
+    /**
+     * Encerra o evento com a origem do comando e se ele terminou em exceção
+     */
+    public void finalizar(String metodoPagina, boolean erro) {
+        end();
+        if (shouldCommit()) {
+            this.metodoPagina = metodoPagina;
+            this.erro = erro;
+            commit();
+        }
+    }
+}
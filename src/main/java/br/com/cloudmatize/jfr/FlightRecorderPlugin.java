@@ -0,0 +1,43 @@
+package br.com.cloudmatize.jfr;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestStep;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+
+/**
+ * Plugin do Cucumber que emite um StepEvent do JFR para cada passo e hook executado
+ * Sem gravação JFR ativa os eventos não são registrados e o custo é desprezível
+ */
+public class FlightRecorderPlugin implements ConcurrentEventListener {
+    private final ThreadLocal<StepEvent> passoAtual = new ThreadLocal<>();
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestStepStarted.class, evento ->
+                passoAtual.set(new StepEvent(evento.getTestCase().getName(), descrever(evento.getTestStep()))));
+        publisher.registerHandlerFor(TestStepFinished.class, this::finalizarPasso);
+    }
+
+    private void finalizarPasso(TestStepFinished evento) {
+        StepEvent passo = passoAtual.get();
+        passoAtual.remove();
+        if (passo != null) {
+            passo.finalizar(evento.getResult().getStatus().name());
+        }
+    }
+
+    private static String descrever(TestStep passo) {
+        if (passo instanceof PickleStepTestStep) {
+            PickleStepTestStep pickle = (PickleStepTestStep) passo;
+            return pickle.getStep().getKeyword().trim() + " " + pickle.getStep().getText();
+        }
+        if (passo instanceof HookTestStep) {
+            return "Hook " + ((HookTestStep) passo).getHookType() + " " + passo.getCodeLocation();
+        }
+        return passo.getCodeLocation();
+    }
+}
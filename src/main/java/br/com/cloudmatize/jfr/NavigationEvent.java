@@ -0,0 +1,45 @@
+package br.com.cloudmatize.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR que cobre uma navegação do BasePage, do get até a página ficar pronta
+ */
+@Name("br.com.cloudmatize.Navigation")
+@Label("Navegação")
+@Category({"Cloudmatize", "Páginas"})
+@Description("Navegação de page object, incluindo as esperas de prontidão")
+public class NavigationEvent extends jdk.jfr.Event {
+    @Label("Página")
+    private final String pagina;
+
+    @Label("URL")
+    private final String url;
+
+    @Label("Contrato de prontidão atendido")
+    private boolean contratoAtendido;
+
+    @Label("Rede pronta")
+    private boolean redePronta;
+
+    public NavigationEvent(String pagina, String url) {
+        this.pagina = pagina;
+        this.url = url;
+        begin();
+    }
+
+    /**
+     * Encerra o evento com o resultado das esperas de prontidão
+     */
+    public void finalizar(boolean contratoAtendido, boolean redePronta) {
+        end();
+        if (shouldCommit()) {
+            this.contratoAtendido = contratoAtendido;
+            this.redePronta = redePronta;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.cloudmatize.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR do trabalho de relatório feito pelo ExtentTestManager (flush e screenshots)
+ */
+@Name("br.com.cloudmatize.Report")
+@Label("Relatório")
+@Category({"Cloudmatize", "Relatórios"})
+@Description("Flush do ExtentReports ou captura e anexo de screenshot")
+public class ReportEvent extends jdk.jfr.Event {
+    @Label("Operação")
+    private final String operacao;
+
+    @Label("Descrição")
+    private final String descricao;
+
+    public ReportEvent(String operacao, String descricao) {
+        this.operacao = operacao;
+        this.descricao = descricao;
+        begin();
+    }
+
+    public void finalizar() {
+        end();
+        if (shouldCommit()) {
+            commit();
+        }
+    }
+}
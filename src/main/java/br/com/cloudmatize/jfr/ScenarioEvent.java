@@ -0,0 +1,41 @@
+package br.com.cloudmatize.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR que cobre um cenário, do @Before ao @After do TestHooks
+ */
+@Name("br.com.cloudmatize.Scenario")
+@Label("Cenário")
+@Category({"Cloudmatize", "Cucumber"})
+@Description("Execução de um cenário do Cucumber")
+public class ScenarioEvent extends jdk.jfr.Event {
+    @Label("Nome")
+    private final String nome;
+
+    @Label("Tags")
+    private final String tags;
+
+    @Label("Status")
+    private String status;
+
+    public ScenarioEvent(String nome, String tags) {
+        this.nome = nome;
+        this.tags = tags;
+        begin();
+    }
+
+    /**
+     * Encerra o evento com o status final do cenário
+     */
+    public void finalizar(String status) {
+        end();
+        if (shouldCommit()) {
+            this.status = status;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.cloudmatize.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR que cobre a execução de um passo ou hook do cenário
+ */
+@Name("br.com.cloudmatize.Step")
+@Label("Passo")
+@Category({"Cloudmatize", "Cucumber"})
+@Description("Execução de um passo ou hook do Cucumber")
+public class StepEvent extends jdk.jfr.Event {
+    @Label("Cenário")
+    private final String cenario;
+
+    @Label("Passo")
+    private final String passo;
+
+    @Label("Status")
+    private String status;
+
+    public StepEvent(String cenario, String passo) {
+        this.cenario = cenario;
+        this.passo = passo;
+        begin();
+    }
+
+    /**
+     * Encerra o evento com o status do passo
+     */
+    public void finalizar(String status) {
+        end();
+        if (shouldCommit()) {
+            this.status = status;
+            commit();
+        }
+    }
+}
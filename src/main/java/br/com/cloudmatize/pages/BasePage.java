@@ -1,11 +1,26 @@
 package br.com.cloudmatize.pages;
 
+import br.com.cloudmatize.config.ConfigManager;
+import br.com.cloudmatize.driver.NetworkIdleMonitor;
+import br.com.cloudmatize.jfr.NavigationEvent;
+import br.com.cloudmatize.reports.ExtentTestManager;
+import br.com.cloudmatize.utils.ElementSnapshot;
+import br.com.cloudmatize.utils.LocatorCache;
+import br.com.cloudmatize.utils.PagePerformance;
+import br.com.cloudmatize.utils.ReadinessContract;
+import br.com.cloudmatize.utils.ResolvedElement;
+import br.com.cloudmatize.utils.WaitEngine;
 import br.com.cloudmatize.utils.WebElementUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Predicate;
+
 /**
  * Classe base robusta para todos os Page Objects
  * Implementa funcionalidades comuns com tratamento de erro e esperas inteligentes
@@ -13,6 +28,9 @@ import org.openqa.selenium.WebDriver;
 public abstract class BasePage {
     protected final WebDriver driver;
     protected final Logger logger = LogManager.getLogger(getClass());
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    private static final String PRONTIDAO_NENHUMA = "none";
+    private static final String PRONTIDAO_SEM_XHR = "no-xhr";
 
     public BasePage(WebDriver driver) {
         this.driver = driver;
@@ -25,6 +43,69 @@ public abstract class BasePage {
     // MÉTODOS DE NAVEGAÇÃO E VALIDAÇÃO
     // =============================================================================
 
+    /**
+     * Navega para a URL e aguarda a página ficar utilizável
+     * Com page.load.strategy eager/none o get retorna antes do carregamento completo; a navegação termina
+     * quando o contrato de prontidão da página é atendido e, se configurado em navigation.readiness,
+     * quando a rede está ociosa (network-idle) ou sem XHR/fetch em andamento (no-xhr)
+     */
+    protected void navegarPara(String url) {
+        String prontidao = ConfigManager.getInstance().getNavigationReadiness();
+        // O monitor precisa estar ativo antes do get para enxergar as requisições da página
+        NetworkIdleMonitor monitor = null;
+        if (!PRONTIDAO_NENHUMA.equals(prontidao)) {
+            monitor = NetworkIdleMonitor.para(driver);
+            monitor.iniciarNavegacao();
+        }
+        NavigationEvent evento = new NavigationEvent(getClass().getSimpleName(), url);
+        long inicio = System.nanoTime();
+        driver.get(url);
+
+        Duration orcamento = WaitEngine.orcamentoPadrao();
+        boolean contratoAtendido = contratoProntidao().aguardar(driver, caminhoDaUrl(url), orcamento);
+        boolean redePronta = true;
+        if (monitor != null) {
+            redePronta = PRONTIDAO_SEM_XHR.equals(prontidao)
+                    ? monitor.aguardarSemXhr(orcamento)
+                    : monitor.aguardarSilencioRede(Duration.ofMillis(ConfigManager.getInstance().getNetworkIdleQuietMs()), orcamento);
+        }
+        evento.finalizar(contratoAtendido, redePronta);
+        if (ConfigManager.getInstance().isPerformanceCaptureEnabled() || ExtentTestManager.isCapturaDesempenhoSolicitada()) {
+            capturarDesempenho();
+        }
+        logger.debug("Página pronta em {} ms (contrato: {}, rede '{}': {})",
+                Duration.ofNanos(System.nanoTime() - inicio).toMillis(), contratoAtendido, prontidao, redePronta);
+    }
+
+    /**
+     * Registra no cenário as métricas de desempenho medidas pelo navegador
+     * A falha na medição não interrompe a navegação
+     */
+    private void capturarDesempenho() {
+        try {
+            ExtentTestManager.registrarDesempenho(PagePerformance.capturar(driver, getClass().getSimpleName()));
+        } catch (Exception e) {
+            logger.warn("Não foi possível medir o desempenho da página: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Contrato de prontidão da página, avaliado em um único script após a navegação
+     * O padrão exige apenas document.readyState interativo; as páginas sobrescrevem com seus elementos essenciais
+     */
+    protected ReadinessContract contratoProntidao() {
+        return new ReadinessContract();
+    }
+
+    private static String caminhoDaUrl(String url) {
+        try {
+            String caminho = URI.create(url).getPath();
+            return caminho == null || caminho.isEmpty() ? null : caminho;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     /**
      * Verifica se estamos na página correta comparando a URL
      */
@@ -68,7 +149,7 @@ public abstract class BasePage {
     // MÉTODOS DE BUSCA E ESPERA DE ELEMENTOS
     // =============================================================================
 
-    // Métodos de espera explícita removidos. Usar apenas espera implícita global.
+    // Sondagens de presença/ausência usam o WaitEngine: espera implícita zerada e orçamento de explicit.wait.
 
     // =============================================================================
     // MÉTODOS DE VERIFICAÇÃO
@@ -81,6 +162,20 @@ public abstract class BasePage {
         return WebElementUtils.elementoEstaPresente(driver, localizador);
     }
 
+    /**
+     * Verifica se elemento está presente dentro do orçamento informado
+     */
+    protected boolean elementoEstaPresente(By localizador, Duration orcamento) {
+        return WebElementUtils.elementoEstaPresente(driver, localizador, orcamento);
+    }
+
+    /**
+     * Verifica se elemento está ausente, retornando imediatamente quando não existe
+     */
+    protected boolean elementoEstaAusente(By localizador) {
+        return WebElementUtils.elementoEstaAusente(driver, localizador);
+    }
+
     /**
      * Verifica se elemento está visível
      */
@@ -88,6 +183,72 @@ public abstract class BasePage {
         return WebElementUtils.elementoEstaVisivel(driver, localizador);
     }
 
+    /**
+     * Verifica se elemento está visível dentro do orçamento informado
+     */
+    protected boolean elementoEstaVisivel(By localizador, Duration orcamento) {
+        return WebElementUtils.elementoEstaVisivel(driver, localizador, orcamento);
+    }
+
+    /**
+     * Resolve a lista de localizadores alternativos em um único round trip ao navegador
+     * Os candidatos são ordenados pelo LocatorCache, com a chave "PageClass#metodo" do chamador
+     * A sondagem se repete dentro do orçamento de explicit.wait, já que resultados podem ser renderizados após a ação
+     * Retorna null quando nenhum candidato tem elemento visível com texto dentro do orçamento
+     */
+    protected ResolvedElement resolverPrimeiro(By... candidatos) {
+        return resolverPrimeiro(metodoChamador(), candidatos, new By[0]);
+    }
+
+    /**
+     * Como resolverPrimeiro, mas só os candidatos principais são aguardados durante o orçamento
+     * Os alternativos (seletores amplos, que correspondem antes de o resultado ser preenchido) são
+     * tentados uma única vez depois que o orçamento se esgota e não entram no LocatorCache
+     */
+    protected ResolvedElement resolverPrimeiro(By[] principais, By... alternativos) {
+        return resolverPrimeiro(metodoChamador(), principais, alternativos);
+    }
+
+    private ResolvedElement resolverPrimeiro(String metodo, By[] principais, By[] alternativos) {
+        String chave = getClass().getSimpleName() + "#" + metodo;
+        try {
+            LocatorCache cache = LocatorCache.getInstance();
+            By[] ordenados = cache.ordenar(chave, principais);
+            ResolvedElement resolvido = WebElementUtils.resolveFirst(driver, WaitEngine.orcamentoPadrao(), ordenados);
+            cache.registrar(chave, ordenados, resolvido);
+            if (resolvido == null && alternativos.length > 0) {
+                resolvido = WebElementUtils.resolveFirst(driver, alternativos);
+                logger.warn("Nenhum localizador principal de {} correspondeu; alternativo: {}", chave,
+                        resolvido != null ? resolvido.getLocalizador() : "nenhum");
+            }
+            return resolvido;
+        } catch (Exception e) {
+            logger.warn("Erro ao resolver localizadores candidatos de {}: {}", chave, e.getMessage());
+            return null;
+        }
+    }
+
+    private static String metodoChamador() {
+        // Ignora este método e a sobrecarga pública de resolverPrimeiro
+        return STACK_WALKER.walk(frames -> frames.skip(2).findFirst()
+                .map(StackWalker.StackFrame::getMethodName).orElse("desconhecido"));
+    }
+
+    /**
+     * Captura em um único round trip o estado dos elementos nomeados
+     */
+    protected Map<String, ElementSnapshot> capturarEstados(Map<String, By> localizadores) {
+        return ElementSnapshot.capturar(driver, localizadores);
+    }
+
+    /**
+     * Repete a captura em lote até a condição ser atendida, dentro do orçamento de explicit.wait
+     */
+    protected Map<String, ElementSnapshot> aguardarEstados(Map<String, By> localizadores,
+                                                         Predicate<Map<String, ElementSnapshot>> condicao) {
+        return ElementSnapshot.aguardar(driver, localizadores, WaitEngine.orcamentoPadrao(), condicao);
+    }
+
     /**
      * Verifica se elemento está habilitado
      */
@@ -1,9 +1,14 @@
 package br.com.cloudmatize.pages;
 
 import br.com.cloudmatize.config.ConfigManager;
+import br.com.cloudmatize.utils.ElementSnapshot;
+import br.com.cloudmatize.utils.ReadinessContract;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Page Object para a página inicial do Selenium Playground
  * Contém métodos para navegar e interagir com os links principais
@@ -32,7 +37,7 @@ public class PlaygroundHomePage extends BasePage {
     public void navegarParaPaginaInicial() {
         try {
             String baseUrl = config.getBaseUrl();
-            driver.get(baseUrl);
+            navegarPara(baseUrl);
             logger.info("Navegando para a página inicial do Selenium Playground: {}", baseUrl);
             
             // Aguarda e valida se a página carregou corretamente
@@ -94,9 +99,16 @@ public class PlaygroundHomePage extends BasePage {
      */
     public boolean verificarLinksEssenciaisPresentes() {
         try {
-            boolean selectPresente = elementoEstaPresente(selectDropdownLink);
-            boolean formPresente = elementoEstaPresente(simpleFormLink);
-            boolean radioPresente = elementoEstaPresente(radioButtonsLink);
+            Map<String, By> links = new LinkedHashMap<>();
+            links.put("select", selectDropdownLink);
+            links.put("form", simpleFormLink);
+            links.put("radio", radioButtonsLink);
+            // Verifica os três links em lote, repetindo a captura até estarem presentes
+            Map<String, ElementSnapshot> estados = aguardarEstados(links,
+                    snapshots -> ElementSnapshot.todos(snapshots, ElementSnapshot::isPresente));
+            boolean selectPresente = estados.get("select").isPresente();
+            boolean formPresente = estados.get("form").isPresente();
+            boolean radioPresente = estados.get("radio").isPresente();
             
             logger.debug("Links principais - Select: {}, Form: {}, Radio: {}", 
                         selectPresente, formPresente, radioPresente);
@@ -120,6 +132,17 @@ public class PlaygroundHomePage extends BasePage {
         return urlAtualContem("lambdatest.com") && urlAtualContem("selenium-playground");
     }
 
+    /**
+     * Elementos que precisam estar prontos para a página ser utilizável
+     */
+    @Override
+    protected ReadinessContract contratoProntidao() {
+        return new ReadinessContract()
+                .exigir("logo", logoSeleniumPlayground, ReadinessContract.Condicao.VISIVEL)
+                .exigir("listaExemplos", listaExemplos, ReadinessContract.Condicao.VISIVEL)
+                .exigir("linkSelectDropdown", selectDropdownLink, ReadinessContract.Condicao.PRESENTE);
+    }
+
     /**
      * Implementação do método abstrato da BasePage
      * Valida se a página carregou corretamente verificando elementos essenciais
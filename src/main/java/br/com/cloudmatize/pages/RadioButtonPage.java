@@ -1,10 +1,15 @@
 package br.com.cloudmatize.pages;
 
 import br.com.cloudmatize.config.ConfigManager;
+import br.com.cloudmatize.utils.ReadinessContract;
+import br.com.cloudmatize.utils.WaitEngine;
 import br.com.cloudmatize.utils.WebElementUtils;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 public class RadioButtonPage extends BasePage {
     private static final String RADIO_BUTTON_URL_PART = "radiobutton-demo";
     private final ConfigManager config = ConfigManager.getInstance();
@@ -24,7 +29,7 @@ public class RadioButtonPage extends BasePage {
         super(driver);
     }    public void navegarParaPaginaRadioButtons() {
         String url = config.getBaseUrl() + RADIO_BUTTON_URL_PART;
-        driver.get(url);
+        navegarPara(url);
         logger.info("Navegando para Radio Button Demo: {}", url);
     }    /**
      * Verifica se a página está carregada
@@ -77,18 +82,24 @@ public class RadioButtonPage extends BasePage {
     }    public void clicarEmGetValues() {
         logger.info("Clicando no botão Get values");
         try {
-            // Primeiro tenta com o seletor direto
-            if (elementoEstaPresente(getValuesButton)) {
-                clicarSeguro(getValuesButton);
-            } else {
-                // Se não encontrar, usa o método genérico
-                WebElement botao = WebElementUtils.encontrarBotaoPorTexto(driver, "Get values");
-                if (botao != null) {
-                    botao.click();
-                    logger.info("Botão 'Get values' clicado usando método genérico");
+            // Aguarda o resultado aparecer ou mudar com um único long-poll após o clique
+            boolean resultadoAtualizado = WaitEngine.aguardarMutacao(driver, () -> {
+                // Primeiro tenta com o seletor direto
+                if (elementoEstaPresente(getValuesButton)) {
+                    clicarSeguro(getValuesButton);
                 } else {
-                    throw new RuntimeException("Botão 'Get values' não encontrado");
+                    // Se não encontrar, usa o método genérico
+                    WebElement botao = WebElementUtils.encontrarBotaoPorTexto(driver, "Get values");
+                    if (botao != null) {
+                        botao.click();
+                        logger.info("Botão 'Get values' clicado usando método genérico");
+                    } else {
+                        throw new RuntimeException("Botão 'Get values' não encontrado");
+                    }
                 }
+            }, WaitEngine.orcamentoPadrao(), resultMessage);
+            if (!resultadoAtualizado) {
+                logger.warn("Resultado do Get values não foi atualizado dentro do tempo esperado");
             }
         } catch (Exception e) {
             logger.error("Erro ao clicar no botão Get values: {}", e.getMessage());
@@ -144,12 +155,15 @@ public class RadioButtonPage extends BasePage {
      * Obtém o gênero atualmente selecionado
      */
     public String obterGeneroSelecionado() {
-        if (driver.findElement(radioMale).isSelected()) {
-            return "Male";
-        } else if (driver.findElement(radioFemale).isSelected()) {
-            return "Female";
-        }
-        return "Nenhum gênero selecionado";
+        Map<String, By> radios = new LinkedHashMap<>();
+        radios.put("Male", radioMale);
+        radios.put("Female", radioFemale);
+        // Lê o estado dos dois radios em um único round trip
+        return capturarEstados(radios).entrySet().stream()
+                .filter(estado -> estado.getValue().isSelecionado())
+                .map(Map.Entry::getKey)
+                .findFirst()
+                .orElse("Nenhum gênero selecionado");
     }
       /**
      * Obtém a faixa etária atualmente selecionada
@@ -178,6 +192,18 @@ public class RadioButtonPage extends BasePage {
         // mas podemos navegar novamente para a página para reset
         logger.info("Radio buttons não podem ser limpos. Para reset, navegue novamente para a página.");
     }
+
+    /**
+     * Elementos que precisam estar prontos para a página ser utilizável
+     */
+    @Override
+    protected ReadinessContract contratoProntidao() {
+        return new ReadinessContract()
+                .exigir("radioMale", radioMale, ReadinessContract.Condicao.HABILITADO)
+                .exigir("radioFemale", radioFemale, ReadinessContract.Condicao.HABILITADO)
+                .exigir("botaoGetValues", getValuesButton, ReadinessContract.Condicao.VISIVEL);
+    }
+
       /**
      * Valida se página de radio buttons está carregada
      */
@@ -1,6 +1,9 @@
 package br.com.cloudmatize.pages;
 
 import br.com.cloudmatize.config.ConfigManager;
+import br.com.cloudmatize.utils.ReadinessContract;
+import br.com.cloudmatize.utils.ResolvedElement;
+import br.com.cloudmatize.utils.WaitEngine;
 import br.com.cloudmatize.utils.WebElementUtils;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
@@ -39,7 +42,7 @@ public class SelectDropdownPage extends BasePage {
     public void navegarParaPaginaSelectDropdown() {
         try {
             String url = config.getBaseUrl() + SELECT_DROPDOWN_URL_PART;
-            driver.get(url);
+            navegarPara(url);
             logger.info("Navegando para Select Dropdown Demo: {}", url);
             
             if (!validarPaginaCarregada()) {
@@ -193,11 +196,15 @@ public class SelectDropdownPage extends BasePage {
     public void clicarEmFirstSelected() {
         try {
             logger.info("Clicando no botão 'First Selected'");
-            if (elementoEstaVisivel(firstSelectedButton)) {
-                clicarSeguro(firstSelectedButton);
-            } else {
+            if (!elementoEstaVisivel(firstSelectedButton)) {
                 throw new RuntimeException("Botão 'First Selected' não encontrado");
             }
+            // Aguarda o resultado aparecer ou mudar com um único long-poll após o clique
+            boolean resultadoAtualizado = WaitEngine.aguardarMutacao(driver,
+                    () -> clicarSeguro(firstSelectedButton), WaitEngine.orcamentoPadrao(), resultadoFirstSelected);
+            if (!resultadoAtualizado) {
+                logger.warn("Resultado do 'First Selected' não foi atualizado dentro do tempo esperado");
+            }
         } catch (Exception e) {
             logger.error("Erro ao clicar em 'First Selected': {}", e.getMessage(), e);
             throw new RuntimeException("Falha ao clicar no botão First Selected", e);
@@ -242,21 +249,9 @@ public class SelectDropdownPage extends BasePage {
      */
     public String obterResultadoBotoesMultiSelect() {
         try {
-            // Tenta obter o texto do resultado do First Selected
-            if (elementoEstaVisivel(resultadoFirstSelected)) {
-                String texto = obterTextoSeguro(resultadoFirstSelected);
-                if (texto != null && !texto.trim().isEmpty()) {
-                    return texto.trim();
-                }
-            }
-            // Tenta obter o texto do resultado do Get Last Selected
-            if (elementoEstaVisivel(resultadoGetLastSelected)) {
-                String texto = obterTextoSeguro(resultadoGetLastSelected);
-                if (texto != null && !texto.trim().isEmpty()) {
-                    return texto.trim();
-                }
-            }
-            return "";
+            // Uma única sondagem com orçamento sobre os dois resultados: só um deles é renderizado por botão
+            ResolvedElement resultado = resolverPrimeiro(resultadoFirstSelected, resultadoGetLastSelected);
+            return resultado != null ? resultado.getTexto() : "";
         } catch (Exception e) {
             logger.error("Erro ao obter resultado dos botões multi-select: {}", e.getMessage());
             return "";
@@ -323,6 +318,17 @@ public class SelectDropdownPage extends BasePage {
     // IMPLEMENTAÇÃO DO MÉTODO ABSTRATO
     // =============================================================================
 
+    /**
+     * Elementos que precisam estar prontos para a página ser utilizável
+     */
+    @Override
+    protected ReadinessContract contratoProntidao() {
+        return new ReadinessContract()
+                .exigir("dropdownUnico", singleSelectDropdown, ReadinessContract.Condicao.HABILITADO)
+                .exigir("dropdownMultiplo", multiSelectDropdown, ReadinessContract.Condicao.HABILITADO)
+                .exigir("botaoFirstSelected", firstSelectedButton, ReadinessContract.Condicao.VISIVEL);
+    }
+
     /**
      * Implementação do método abstrato da BasePage
      * Valida se a página carregou corretamente verificando elementos essenciais
@@ -1,11 +1,18 @@
 package br.com.cloudmatize.pages;
 
 import br.com.cloudmatize.config.ConfigManager;
+import br.com.cloudmatize.utils.ElementSnapshot;
+import br.com.cloudmatize.utils.ReadinessContract;
+import br.com.cloudmatize.utils.ResolvedElement;
 import br.com.cloudmatize.utils.WebElementUtils;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Page Object para a página Simple Form Demo
  * Contém métodos para interagir com formulários simples e operações de soma
@@ -36,7 +43,7 @@ public class SimpleFormPage extends BasePage {
     public void navegarParaPaginaFormularioSimples() {
         try {
             String url = config.getBaseUrl() + SIMPLE_FORM_URL_PART;
-            driver.get(url);
+            navegarPara(url);
             logger.info("Navegando para página do formulário simples: {}", url);
             
             if (!validarPaginaCarregada()) {
@@ -85,33 +92,27 @@ public class SimpleFormPage extends BasePage {
      */
     public String obterResultadoMensagem() {
         try {
-            // Lista de seletores possíveis para o resultado
+            // Seletores específicos do resultado, aguardados até o preenchimento
             By[] possiveisResultados = {
                 By.id("message"),
                 By.id("display"),
                 By.id("user_message"),
-                By.xpath("//div[@id='message']"),
+                By.xpath("//div[@id='message']")
+            };
+            // Seletores amplos, tentados uma única vez se nenhum específico for preenchido
+            By[] resultadosAlternativos = {
                 By.xpath("//span[contains(@class, 'result')]"),
                 By.xpath("//div[contains(@class, 'result')]"),
                 By.xpath("//p[contains(@class, 'result')]"),
                 By.xpath("//*[contains(text(), 'Ola, este e um teste automatizado!')]"),
-                By.xpath("//div[following-sibling::*[contains(@id, 'user-message')]]"),
                 anyResultElement
             };
             
-            // Tenta encontrar o resultado em qualquer um dos locais
-            for (By seletor : possiveisResultados) {
-                try {
-                    if (elementoEstaPresente(seletor)) {
-                        String resultado = obterTextoSeguro(seletor);
-                        if (resultado != null && !resultado.trim().isEmpty()) {
-                            logger.info("Resultado da mensagem encontrado com seletor {}: '{}'", seletor, resultado);
-                            return resultado;
-                        }
-                    }
-                } catch (Exception e) {
-                    logger.debug("Erro ao tentar seletor {}: {}", seletor, e.getMessage());
-                }
+            // Avalia os seletores em um único round trip ao navegador por tentativa
+            ResolvedElement resultado = resolverPrimeiro(possiveisResultados, resultadosAlternativos);
+            if (resultado != null) {
+                logger.info("Resultado da mensagem encontrado com seletor {}: '{}'", resultado.getLocalizador(), resultado.getTexto());
+                return resultado.getTexto();
             }
             
             logger.warn("Resultado da mensagem não encontrado em nenhum local conhecido");
@@ -179,27 +180,21 @@ public class SimpleFormPage extends BasePage {
                 By.id("addmessage"),
                 By.id("displayvalue"),
                 By.id("sum_result"),
-                By.xpath("//div[@id='addmessage']"),
+                By.xpath("//div[@id='addmessage']")
+            };
+            // Seletores amplos, tentados uma única vez se nenhum específico for preenchido
+            By[] resultadosAlternativos = {
                 By.xpath("//span[contains(@class, 'sum')]"),
                 By.xpath("//div[contains(@class, 'sum')]"),
                 By.xpath("//p[contains(@class, 'sum')]"),
-                By.xpath("//*[contains(text(), '40')]"),
-                By.xpath("//div[following-sibling::*[contains(@id, 'sum')]]")
+                By.xpath("//*[contains(text(), '40')]")
             };
             
-            // Tenta encontrar o resultado em qualquer um dos locais
-            for (By seletor : possiveisResultados) {
-                try {
-                    if (elementoEstaPresente(seletor)) {
-                        String resultado = obterTextoSeguro(seletor);
-                        if (resultado != null && !resultado.trim().isEmpty()) {
-                            logger.info("Resultado da soma encontrado com seletor {}: '{}'", seletor, resultado);
-                            return resultado;
-                        }
-                    }
-                } catch (Exception e) {
-                    logger.debug("Erro ao tentar seletor {}: {}", seletor, e.getMessage());
-                }
+            // Avalia os seletores em um único round trip ao navegador por tentativa
+            ResolvedElement resultado = resolverPrimeiro(possiveisResultados, resultadosAlternativos);
+            if (resultado != null) {
+                logger.info("Resultado da soma encontrado com seletor {}: '{}'", resultado.getLocalizador(), resultado.getTexto());
+                return resultado.getTexto();
             }
             
             logger.warn("Resultado da soma não encontrado em nenhum local conhecido");
@@ -248,9 +243,16 @@ public class SimpleFormPage extends BasePage {
      */
     public boolean camposEstaoVisiveis() {
         try {
-            boolean mensagemVisivel = elementoEstaVisivel(messageInput);
-            boolean primeiroNumeroVisivel = elementoEstaVisivel(firstNumberInput);
-            boolean segundoNumeroVisivel = elementoEstaVisivel(secondNumberInput);
+            Map<String, By> campos = new LinkedHashMap<>();
+            campos.put("mensagem", messageInput);
+            campos.put("primeiroNumero", firstNumberInput);
+            campos.put("segundoNumero", secondNumberInput);
+            // Verifica os três campos em lote, repetindo a captura até estarem visíveis
+            Map<String, ElementSnapshot> estados = aguardarEstados(campos,
+                    snapshots -> ElementSnapshot.todos(snapshots, ElementSnapshot::isVisivel));
+            boolean mensagemVisivel = estados.get("mensagem").isVisivel();
+            boolean primeiroNumeroVisivel = estados.get("primeiroNumero").isVisivel();
+            boolean segundoNumeroVisivel = estados.get("segundoNumero").isVisivel();
             
             logger.debug("Campos visíveis - Mensagem: {}, Num1: {}, Num2: {}", 
                         mensagemVisivel, primeiroNumeroVisivel, segundoNumeroVisivel);
@@ -267,8 +269,8 @@ public class SimpleFormPage extends BasePage {
      */
     public boolean resultadoEstaPresente() {
         try {
-            boolean mensagemPresente = elementoEstaPresente(messageResult);
-            boolean somaPresente = elementoEstaPresente(sumResult);
+            boolean mensagemPresente = elementoEstaPresente(messageResult, Duration.ZERO);
+            boolean somaPresente = elementoEstaPresente(sumResult, Duration.ZERO);
             
             logger.debug("Resultados presentes - Mensagem: {}, Soma: {}", 
                         mensagemPresente, somaPresente);
@@ -304,6 +306,18 @@ public class SimpleFormPage extends BasePage {
     // IMPLEMENTAÇÃO DO MÉTODO ABSTRATO
     // =============================================================================
     
+    /**
+     * Elementos que precisam estar prontos para a página ser utilizável
+     */
+    @Override
+    protected ReadinessContract contratoProntidao() {
+        return new ReadinessContract()
+                .exigir("campoMensagem", messageInput, ReadinessContract.Condicao.HABILITADO)
+                .exigir("botaoShowMessage", showMessageButton, ReadinessContract.Condicao.VISIVEL)
+                .exigir("primeiroNumero", firstNumberInput, ReadinessContract.Condicao.HABILITADO)
+                .exigir("segundoNumero", secondNumberInput, ReadinessContract.Condicao.HABILITADO);
+    }
+
     /**
      * Implementação do método abstrato da BasePage
      * Valida se a página carregou corretamente verificando elementos essenciais
@@ -0,0 +1,153 @@
+package br.com.cloudmatize.replay;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Arquivo em disco com as respostas HTTP gravadas
+ * index.json mapeia "METODO /caminho?query" para status, cabeçalhos relevantes e o arquivo do corpo,
+ * e os corpos ficam em bodies/ nomeados pelo SHA-1 da chave
+ */
+public class ReplayArchive {
+    private static final Logger logger = LogManager.getLogger(ReplayArchive.class);
+    private static final String INDICE = "index.json";
+    private static final String DIRETORIO_CORPOS = "bodies";
+    private static final Type TIPO_INDICE = new TypeToken<Map<String, Entrada>>() { }.getType();
+
+    private final Gson gson = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+    private final Path diretorio;
+    private final Map<String, Entrada> entradas = new ConcurrentHashMap<>();
+
+    private ReplayArchive(Path diretorio) {
+        this.diretorio = diretorio;
+    }
+
+    /**
+     * Carrega o arquivo existente no diretório ou inicia um arquivo vazio
+     */
+    public static ReplayArchive abrir(Path diretorio) {
+        ReplayArchive arquivo = new ReplayArchive(diretorio);
+        Path indice = diretorio.resolve(INDICE);
+        if (Files.exists(indice)) {
+            try (Reader reader = Files.newBufferedReader(indice, StandardCharsets.UTF_8)) {
+                Map<String, Entrada> lidas = arquivo.gson.fromJson(reader, TIPO_INDICE);
+                if (lidas != null) {
+                    arquivo.entradas.putAll(lidas);
+                }
+            } catch (IOException | JsonParseException e) {
+                throw new RuntimeException("Falha ao ler arquivo de replay em " + indice + ": " + e.getMessage(), e);
+            }
+        }
+        logger.info("Arquivo de replay em {} com {} respostas", diretorio, arquivo.entradas.size());
+        return arquivo;
+    }
+
+    /**
+     * Chave da requisição: método, caminho e query, sem a origem
+     */
+    public static String chave(String metodo, URI uri) {
+        String caminho = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        return metodo.toUpperCase() + " " + caminho + (uri.getRawQuery() != null ? "?" + uri.getRawQuery() : "");
+    }
+
+    /**
+     * Grava a resposta, substituindo uma gravação anterior da mesma chave
+     */
+    public void gravar(String chave, int status, String contentType, String location, byte[] corpo) {
+        Entrada entrada = new Entrada();
+        entrada.status = status;
+        entrada.contentType = contentType;
+        entrada.location = location;
+        try {
+            if (corpo != null && corpo.length > 0) {
+                entrada.arquivo = DIRETORIO_CORPOS + "/" + sha1(chave);
+                Path destino = diretorio.resolve(entrada.arquivo);
+                Files.createDirectories(destino.getParent());
+                Files.write(destino, corpo);
+            }
+            entradas.put(chave, entrada);
+        } catch (IOException e) {
+            logger.warn("Erro ao gravar resposta {}: {}", chave, e.getMessage());
+        }
+    }
+
+    public Entrada obter(String chave) {
+        return entradas.get(chave);
+    }
+
+    /**
+     * Lê o corpo gravado da entrada; vazio quando a resposta não tinha corpo
+     */
+    public byte[] lerCorpo(Entrada entrada) throws IOException {
+        return entrada.arquivo == null ? new byte[0] : Files.readAllBytes(diretorio.resolve(entrada.arquivo));
+    }
+
+    public int tamanho() {
+        return entradas.size();
+    }
+
+    /**
+     * Grava o índice em disco, ordenado por chave para facilitar a revisão no controle de versão
+     */
+    public synchronized void salvar() {
+        try {
+            Files.createDirectories(diretorio);
+            try (Writer writer = Files.newBufferedWriter(diretorio.resolve(INDICE), StandardCharsets.UTF_8)) {
+                gson.toJson(new TreeMap<>(entradas), TIPO_INDICE, writer);
+            }
+            logger.info("Arquivo de replay gravado em {} com {} respostas", diretorio, entradas.size());
+        } catch (IOException e) {
+            logger.error("Erro ao gravar índice do arquivo de replay: {}", e.getMessage(), e);
+        }
+    }
+
+    private static String sha1(String valor) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            return HexFormat.of().formatHex(digest.digest(valor.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 indisponível", e);
+        }
+    }
+
+    /**
+     * Resposta gravada
+     */
+    public static class Entrada {
+        int status;
+        String contentType;
+        String location;
+        String arquivo;
+
+        public int getStatus() {
+            return status;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getLocation() {
+            return location;
+        }
+    }
+}
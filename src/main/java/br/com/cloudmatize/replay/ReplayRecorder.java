@@ -0,0 +1,163 @@
+package br.com.cloudmatize.replay;
+
+import br.com.cloudmatize.config.ConfigManager;
+import br.com.cloudmatize.driver.DriverFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.json.Json;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Gravação das respostas recebidas pelo navegador em http.replay.mode=record
+ * Acompanha os eventos de rede do DevTools e grava no ReplayArchive as respostas da mesma
+ * origem de base.url (documentos, scripts, estilos e XHR), incluindo redirecionamentos
+ */
+public class ReplayRecorder {
+    private static final Logger logger = LogManager.getLogger(ReplayRecorder.class);
+    private static final String MODO_GRAVACAO = "record";
+    private static final Map<WebDriver, ReplayRecorder> gravadores = new ConcurrentHashMap<>();
+    private static volatile ReplayArchive arquivoGravacao;
+
+    private final DevTools devTools;
+    private final String origem;
+    // requestId -> método HTTP, registrado no requestWillBeSent
+    private final Map<String, String> metodos = new ConcurrentHashMap<>();
+    // requestId -> dados do responseReceived, consumidos no loadingFinished
+    private final Map<String, Map<String, Object>> respostas = new ConcurrentHashMap<>();
+
+    private ReplayRecorder(WebDriver driver, String origem) {
+        this.origem = origem;
+        this.devTools = DriverFactory.obterDevTools(driver);
+        devTools.addListener(evento("Network.requestWillBeSent"), this::registrarRequisicao);
+        devTools.addListener(evento("Network.responseReceived"), dados -> {
+            Object resposta = dados.get("response");
+            if (resposta instanceof Map) {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> mapa = (Map<String, Object>) resposta;
+                respostas.put(String.valueOf(dados.get("requestId")), mapa);
+            }
+        });
+        devTools.addListener(evento("Network.loadingFinished"), dados -> gravarResposta(String.valueOf(dados.get("requestId"))));
+        devTools.addListener(evento("Network.loadingFailed"), dados -> {
+            metodos.remove(String.valueOf(dados.get("requestId")));
+            respostas.remove(String.valueOf(dados.get("requestId")));
+        });
+        devTools.send(new Command<>("Network.enable", Map.of()));
+    }
+
+    /**
+     * Inicia a gravação na sessão recém-criada quando http.replay.mode=record
+     */
+    public static void aplicar(WebDriver driver) {
+        ConfigManager config = ConfigManager.getInstance();
+        if (!MODO_GRAVACAO.equals(config.getHttpReplayMode())) {
+            return;
+        }
+        try {
+            URI base = URI.create(config.getBaseUrl());
+            String origem = base.getScheme() + "://" + base.getRawAuthority();
+            gravadores.computeIfAbsent(driver, d -> new ReplayRecorder(d, origem));
+        } catch (Exception e) {
+            logger.warn("Não foi possível iniciar a gravação de respostas: {}", e.getMessage());
+        }
+    }
+
+    public static void descartar(WebDriver driver) {
+        gravadores.remove(driver);
+    }
+
+    /**
+     * Grava o índice do arquivo ao final da execução
+     */
+    public static void salvar() {
+        if (arquivoGravacao != null) {
+            arquivoGravacao.salvar();
+        }
+    }
+
+    private static ReplayArchive arquivo() {
+        if (arquivoGravacao == null) {
+            synchronized (ReplayRecorder.class) {
+                if (arquivoGravacao == null) {
+                    arquivoGravacao = ReplayArchive.abrir(Paths.get(ConfigManager.getInstance().getHttpReplayDir()));
+                }
+            }
+        }
+        return arquivoGravacao;
+    }
+
+    private void registrarRequisicao(Map<String, Object> dados) {
+        String requestId = String.valueOf(dados.get("requestId"));
+        // O redirecionamento chega como uma nova requisição com a resposta anterior em redirectResponse
+        Object redirecionamento = dados.get("redirectResponse");
+        if (redirecionamento instanceof Map) {
+            Map<?, ?> resposta = (Map<?, ?>) redirecionamento;
+            String url = String.valueOf(resposta.get("url"));
+            if (url.startsWith(origem)) {
+                arquivo().gravar(ReplayArchive.chave(metodos.getOrDefault(requestId, "GET"), URI.create(url)),
+                        ((Number) resposta.get("status")).intValue(), null,
+                        cabecalho(resposta.get("headers"), "location"), null);
+            }
+        }
+        Object requisicao = dados.get("request");
+        if (requisicao instanceof Map) {
+            metodos.put(requestId, String.valueOf(((Map<?, ?>) requisicao).get("method")));
+        }
+    }
+
+    private void gravarResposta(String requestId) {
+        Map<String, Object> resposta = respostas.remove(requestId);
+        String metodo = metodos.remove(requestId);
+        if (resposta == null) {
+            return;
+        }
+        String url = String.valueOf(resposta.get("url"));
+        if (!url.startsWith(origem)) {
+            return;
+        }
+        try {
+            Map<String, Object> corpo = devTools.send(new Command<>("Network.getResponseBody",
+                    Map.of("requestId", requestId), Json.MAP_TYPE));
+            String conteudo = String.valueOf(corpo.get("body"));
+            byte[] bytes = Boolean.TRUE.equals(corpo.get("base64Encoded"))
+                    ? Base64.getDecoder().decode(conteudo)
+                    : conteudo.getBytes(StandardCharsets.UTF_8);
+            String contentType = cabecalho(resposta.get("headers"), "content-type");
+            arquivo().gravar(ReplayArchive.chave(metodo != null ? metodo : "GET", URI.create(url)),
+                    ((Number) resposta.get("status")).intValue(),
+                    contentType != null ? contentType : String.valueOf(resposta.get("mimeType")), null, bytes);
+            logger.debug("Resposta gravada: {}", url);
+        } catch (Exception e) {
+            logger.debug("Corpo indisponível para {}: {}", url, e.getMessage());
+        }
+    }
+
+    /**
+     * Busca o cabeçalho ignorando maiúsculas/minúsculas
+     */
+    private static String cabecalho(Object cabecalhos, String nome) {
+        if (!(cabecalhos instanceof Map)) {
+            return null;
+        }
+        for (Map.Entry<?, ?> entrada : ((Map<?, ?>) cabecalhos).entrySet()) {
+            if (nome.equalsIgnoreCase(String.valueOf(entrada.getKey()))) {
+                return String.valueOf(entrada.getValue());
+            }
+        }
+        return null;
+    }
+
+    private static Event<Map<String, Object>> evento(String nome) {
+        return new Event<>(nome, entrada -> entrada.read(Json.MAP_TYPE));
+    }
+}
@@ -0,0 +1,177 @@
+package br.com.cloudmatize.replay;
+
+import br.com.cloudmatize.config.ConfigManager;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Servidor HTTP local que reproduz as respostas gravadas em http.replay.mode=replay
+ * Sobe dentro da JVM de teste e sobrescreve base.url em tempo de execução, de modo que
+ * ConfigManager.getBaseUrl() passa a apontar para o servidor sem alterar os page objects.
+ * Referências absolutas à origem gravada nos conteúdos textuais são reescritas para a origem local.
+ */
+public class ReplayServer {
+    private static final Logger logger = LogManager.getLogger(ReplayServer.class);
+    private static final String MODO_REPLAY = "replay";
+    private static volatile ReplayServer instance;
+
+    private final AtomicInteger respostasServidas = new AtomicInteger();
+    private final AtomicInteger respostasAusentes = new AtomicInteger();
+    private HttpServer servidor;
+    private ExecutorService executor;
+    private ReplayArchive arquivo;
+    private String origemGravada;
+    private String origemLocal;
+
+    private ReplayServer() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::encerrar, "replay-server-shutdown"));
+    }
+
+    /**
+     * Thread-safe singleton com double-checked locking
+     */
+    public static ReplayServer getInstance() {
+        if (instance == null) {
+            synchronized (ReplayServer.class) {
+                if (instance == null) {
+                    instance = new ReplayServer();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Sobe o servidor quando http.replay.mode=replay; nos demais modos não faz nada
+     */
+    public static void iniciarSeConfigurado() {
+        if (MODO_REPLAY.equals(ConfigManager.getInstance().getHttpReplayMode())) {
+            getInstance().iniciar();
+        }
+    }
+
+    /**
+     * Finaliza o servidor caso ele tenha sido iniciado nesta execução
+     */
+    public static void encerrarSeAtivo() {
+        if (instance != null) {
+            instance.encerrar();
+        }
+    }
+
+    /**
+     * Carrega o arquivo gravado, sobe o servidor e redireciona base.url para ele
+     */
+    public synchronized void iniciar() {
+        if (servidor != null) {
+            return;
+        }
+        ConfigManager config = ConfigManager.getInstance();
+        Path diretorio = Paths.get(config.getHttpReplayDir());
+        if (!Files.exists(diretorio.resolve("index.json"))) {
+            throw new RuntimeException("Arquivo de replay não encontrado em " + diretorio
+                    + ". Grave as respostas antes com -Dhttp.replay.mode=record");
+        }
+        arquivo = ReplayArchive.abrir(diretorio);
+
+        URI baseGravada = URI.create(config.getBaseUrl());
+        origemGravada = baseGravada.getScheme() + "://" + baseGravada.getRawAuthority();
+        try {
+            servidor = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), config.getHttpReplayPort()), 0);
+        } catch (IOException e) {
+            throw new RuntimeException("Falha ao iniciar servidor de replay: " + e.getMessage(), e);
+        }
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "replay-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        servidor.setExecutor(executor);
+        servidor.createContext("/", this::responder);
+        servidor.start();
+
+        origemLocal = "http://" + servidor.getAddress().getHostString() + ":" + servidor.getAddress().getPort();
+        config.setRuntimeProperty("base.url", origemLocal + baseGravada.getRawPath());
+        logger.info("Servidor de replay ativo em {} reproduzindo {} ({} respostas)",
+                origemLocal, origemGravada, arquivo.tamanho());
+    }
+
+    /**
+     * Finaliza o servidor e restaura base.url
+     */
+    public synchronized void encerrar() {
+        if (servidor == null) {
+            return;
+        }
+        servidor.stop(0);
+        executor.shutdownNow();
+        servidor = null;
+        ConfigManager.getInstance().clearRuntimeProperty("base.url");
+        logger.info("Servidor de replay finalizado. Respostas servidas: {}, não gravadas: {}",
+                respostasServidas.get(), respostasAusentes.get());
+    }
+
+    private void responder(HttpExchange troca) throws IOException {
+        try {
+            URI uri = troca.getRequestURI();
+            ReplayArchive.Entrada entrada = arquivo.obter(ReplayArchive.chave(troca.getRequestMethod(), uri));
+            if (entrada == null && uri.getRawQuery() != null) {
+                // Parâmetros de cache-busting variam entre execuções; tenta a mesma rota sem query
+                entrada = arquivo.obter(ReplayArchive.chave(troca.getRequestMethod(), URI.create(uri.getRawPath())));
+            }
+            if (entrada == null) {
+                respostasAusentes.incrementAndGet();
+                logger.debug("Resposta não gravada: {} {}", troca.getRequestMethod(), uri);
+                troca.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            byte[] corpo = arquivo.lerCorpo(entrada);
+            if (entrada.getContentType() != null) {
+                troca.getResponseHeaders().set("Content-Type", entrada.getContentType());
+                if (ehTextual(entrada.getContentType())) {
+                    corpo = reescreverOrigem(new String(corpo, StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8);
+                }
+            }
+            if (entrada.getLocation() != null) {
+                troca.getResponseHeaders().set("Location", reescreverOrigem(entrada.getLocation()));
+            }
+            troca.getResponseHeaders().set("Cache-Control", "no-store");
+            respostasServidas.incrementAndGet();
+            troca.sendResponseHeaders(entrada.getStatus(), corpo.length == 0 ? -1 : corpo.length);
+            if (corpo.length > 0) {
+                try (OutputStream saida = troca.getResponseBody()) {
+                    saida.write(corpo);
+                }
+            }
+        } finally {
+            troca.close();
+        }
+    }
+
+    private String reescreverOrigem(String conteudo) {
+        return conteudo
+                .replace(origemGravada, origemLocal)
+                .replace(origemGravada.replace("/", "\\/"), origemLocal.replace("/", "\\/"));
+    }
+
+    private static boolean ehTextual(String contentType) {
+        String tipo = contentType.toLowerCase();
+        return tipo.startsWith("text/") || tipo.contains("javascript") || tipo.contains("json") || tipo.contains("xml");
+    }
+}
@@ -0,0 +1,153 @@
+package br.com.cloudmatize.reports;
+
+import br.com.cloudmatize.config.ConfigManager;
+import br.com.cloudmatize.driver.CommandMetrics;
+import br.com.cloudmatize.driver.ImplicitWaitWaste;
+import com.google.gson.GsonBuilder;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestStep;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Plugin do Cucumber que atribui os comandos WebDriver contabilizados pelo CommandInterceptor a cada passo
+ * Anexa o resumo de cada passo ao relatório Extent e grava, ao final da execução, o JSON com os totais
+ * por comando, por método de page object e por passo de cada cenário, além do ranking de espera implícita
+ * desperdiçada em buscas sem resultado
+ */
+public class CommandMetricsPlugin implements ConcurrentEventListener {
+    private static final Logger logger = LogManager.getLogger(CommandMetricsPlugin.class);
+    private static final int LIMITE_RANKING = 20;
+
+    private final File destino;
+    private final Map<UUID, List<Map<String, Object>>> passosPorCenario = new ConcurrentHashMap<>();
+    private final List<Map<String, Object>> cenarios = new ArrayList<>();
+
+    public CommandMetricsPlugin(File destino) {
+        this.destino = destino;
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        // Sem o interceptor não há comandos contabilizados nem JSON a gravar
+        if (!ConfigManager.getInstance().isCommandMetricsEnabled()) {
+            return;
+        }
+        publisher.registerHandlerFor(TestStepStarted.class, evento -> CommandMetrics.iniciarPasso(descrever(evento.getTestStep())));
+        publisher.registerHandlerFor(TestStepFinished.class, this::finalizarPasso);
+        publisher.registerHandlerFor(TestCaseFinished.class, this::registrarCenario);
+        publisher.registerHandlerFor(TestRunFinished.class, evento -> gravar());
+    }
+
+    private void finalizarPasso(TestStepFinished evento) {
+        ImplicitWaitWaste.consolidarThread();
+        CommandMetrics.Passo passo = CommandMetrics.finalizarPasso();
+        if (passo == null || passo.getTotal().getQuantidade() == 0) {
+            return;
+        }
+        ExtentTestManager.logStep(passo.getDescricao() + " | " + passo.resumir());
+
+        Map<String, Object> registro = new LinkedHashMap<>();
+        registro.put("passo", passo.getDescricao());
+        registro.put("status", evento.getResult().getStatus().name());
+        registro.put("comandos", passo.getTotal().getQuantidade());
+        registro.put("duracaoMs", passo.getTotal().getDuracaoMs());
+        registro.put("porComando", converter(passo.getComandos()));
+        registro.put("porMetodoPagina", converter(passo.getMetodosPagina()));
+        passosPorCenario.computeIfAbsent(evento.getTestCase().getId(), id -> new ArrayList<>()).add(registro);
+    }
+
+    private synchronized void registrarCenario(TestCaseFinished evento) {
+        List<Map<String, Object>> passos = passosPorCenario.remove(evento.getTestCase().getId());
+        Map<String, Object> cenario = new LinkedHashMap<>();
+        cenario.put("nome", evento.getTestCase().getName());
+        cenario.put("uri", evento.getTestCase().getUri().toString() + ":" + evento.getTestCase().getLocation().getLine());
+        cenario.put("status", evento.getResult().getStatus().name());
+        cenario.put("comandos", passos == null ? 0 : passos.stream().mapToLong(passo -> (Long) passo.get("comandos")).sum());
+        cenario.put("passos", passos == null ? List.of() : passos);
+        cenarios.add(cenario);
+    }
+
+    private synchronized void gravar() {
+        Map<String, Object> execucao = new LinkedHashMap<>();
+        execucao.put("porComando", converter(CommandMetrics.getPorComando()));
+        execucao.put("porMetodoPagina", converter(CommandMetrics.getPorMetodoPagina()));
+        execucao.put("esperaImplicitaDesperdicada", rankingDesperdicio());
+        execucao.put("cenarios", cenarios);
+        try {
+            Files.createDirectories(destino.getAbsoluteFile().getParentFile().toPath());
+            try (Writer writer = Files.newBufferedWriter(destino.toPath(), StandardCharsets.UTF_8)) {
+                new GsonBuilder().setPrettyPrinting().create().toJson(execucao, writer);
+            }
+            logger.info("Métricas de comandos WebDriver gravadas em {}", destino.getAbsolutePath());
+        } catch (IOException e) {
+            throw new RuntimeException("Falha ao gravar métricas de comandos em " + destino + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Ranking dos localizadores que mais consumiram espera implícita sem encontrar elemento, também exibido no log
+     */
+    private static List<Map<String, Object>> rankingDesperdicio() {
+        List<Map<String, Object>> ranking = new ArrayList<>();
+        for (ImplicitWaitWaste.Desperdicio desperdicio : ImplicitWaitWaste.ranking(LIMITE_RANKING)) {
+            Map<String, Object> linha = new LinkedHashMap<>();
+            linha.put("metodoPagina", desperdicio.getMetodoPagina());
+            linha.put("localizador", desperdicio.getLocalizador());
+            linha.put("ocorrencias", desperdicio.getOcorrencias());
+            linha.put("duracaoMs", desperdicio.getDuracaoMs());
+            linha.put("sugestao", desperdicio.getSugestao());
+            ranking.add(linha);
+        }
+        if (!ranking.isEmpty()) {
+            logger.warn("=== ESPERA IMPLÍCITA DESPERDIÇADA EM BUSCAS SEM RESULTADO ===");
+            ranking.forEach(linha -> logger.warn("{} ms em {}x | {} | {}{}", linha.get("duracaoMs"), linha.get("ocorrencias"),
+                    linha.get("metodoPagina"), linha.get("localizador"),
+                    linha.get("sugestao") != null ? " -> sugestão: " + linha.get("sugestao") : ""));
+        }
+        return ranking;
+    }
+
+    private static String descrever(TestStep passo) {
+        if (passo instanceof PickleStepTestStep) {
+            PickleStepTestStep pickle = (PickleStepTestStep) passo;
+            return pickle.getStep().getKeyword().trim() + " " + pickle.getStep().getText();
+        }
+        if (passo instanceof HookTestStep) {
+            return "Hook " + ((HookTestStep) passo).getHookType() + " " + passo.getCodeLocation();
+        }
+        return passo.getCodeLocation();
+    }
+
+    private static Map<String, Map<String, Long>> converter(Map<String, CommandMetrics.Estatistica> estatisticas) {
+        Map<String, Map<String, Long>> convertidas = new LinkedHashMap<>();
+        estatisticas.forEach((chave, estatistica) -> {
+            Map<String, Long> valores = new LinkedHashMap<>();
+            valores.put("quantidade", estatistica.getQuantidade());
+            valores.put("erros", estatistica.getErros());
+            valores.put("duracaoMs", estatistica.getDuracaoMs());
+            valores.put("maximoMs", estatistica.getMaximoMs());
+            convertidas.put(chave, valores);
+        });
+        return convertidas;
+    }
+}
@@ -1,10 +1,13 @@
 package br.com.cloudmatize.reports;
 
+import br.com.cloudmatize.jfr.ReportEvent;
+import br.com.cloudmatize.utils.PagePerformance;
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
 import com.aventstack.extentreports.MediaEntityBuilder;
+import com.aventstack.extentreports.Status;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.OutputType;
@@ -12,8 +15,13 @@ import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 
 import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 
 /**
  * Gerenciador de relatórios Extent Reports
@@ -23,8 +31,13 @@ public class ExtentTestManager {
     private static final Logger logger = LogManager.getLogger(ExtentTestManager.class);
     
     private static ExtentReports extent;
-    private static final ThreadLocal<ExtentTest> extentTest = new ThreadLocal<>();    private static final String REPORTS_PATH = "target/extent-reports/";
-    private static final String SCREENSHOTS_PATH = "target/screenshots/";
+    private static final ThreadLocal<ExtentTest> extentTest = new ThreadLocal<>();
+    // Métricas de desempenho das páginas visitadas no cenário da thread, em ordem de navegação
+    private static final ThreadLocal<List<PagePerformance>> desempenhoCenario = ThreadLocal.withInitial(ArrayList::new);
+    // Cenário da thread marcado com performance.capture.tag mede as páginas mesmo com a captura global desligada
+    private static final ThreadLocal<Boolean> capturaDesempenhoSolicitada = ThreadLocal.withInitial(() -> false);
+    private static final String REPORTS_PATH = "target/extent-reports/";
+    private static final String SCREENSHOTS_PATH = REPORTS_PATH + "screenshots/";
     
     static {
         setupExtentReports();
@@ -146,28 +159,19 @@ public class ExtentTestManager {
      * Captura screenshot e anexa ao relatório
      */
     public static void addScreenshot(WebDriver driver, String description) {
+        ReportEvent evento = new ReportEvent("screenshot", description);
         try {
             ExtentTest test = getTest();
             if (test != null && driver != null) {
-                // Criar diretório de screenshots se não existir
-                File screenshotsDir = new File(SCREENSHOTS_PATH);
-                if (!screenshotsDir.exists()) {
-                    screenshotsDir.mkdirs();
-                }
-                
-                String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss_SSS").format(new Date());
-                String screenshotName = "screenshot_" + timestamp + ".png";
-                
-                // Capturar screenshot
-                TakesScreenshot takesScreenshot = (TakesScreenshot) driver;
-                String base64Screenshot = takesScreenshot.getScreenshotAs(OutputType.BASE64);
-                
-                // Anexar ao relatório
-                test.info(description, MediaEntityBuilder.createScreenCaptureFromBase64String(base64Screenshot).build());
-                logger.debug("Screenshot capturado e anexado: {}", screenshotName);
+                // Capturar screenshot; a gravação em SCREENSHOTS_PATH e o anexo ao relatório acontecem em background
+                byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+                ScreenshotProcessor.getInstance().anexar(test, screenshot, Status.INFO, description);
+                logger.debug("Screenshot capturado: {}", description);
             }
         } catch (Exception e) {
             logger.error("Erro ao capturar screenshot: {}", e.getMessage(), e);
+        } finally {
+            evento.finalizar();
         }
     }
       /**
@@ -177,7 +181,11 @@ public class ExtentTestManager {
         if (extent != null) {
             System.out.println("=== FINALIZANDO EXTENT REPORTS ===");
             System.out.println("Gerando relatório no diretório: " + REPORTS_PATH);
+            ReportEvent evento = new ReportEvent("flush", REPORTS_PATH);
+            // Screenshots ainda em processamento precisam estar no relatório antes da gravação
+            ScreenshotProcessor.getInstance().aguardarPendentes();
             extent.flush();
+            evento.finalizar();
             logger.info("Relatório ExtentReports finalizado");
             System.out.println("=== EXTENT REPORTS FINALIZADO ===");
             
@@ -197,11 +205,70 @@ public class ExtentTestManager {
         }
     }
     
+    /**
+     * Anexa ao teste uma mídia já gravada em disco (ex.: screencast), referenciada pelo caminho
+     * relativo ao diretório do relatório
+     */
+    public static void addMediaFromPath(Path arquivo, String description) {
+        addMediaFromPath(getTest(), arquivo, description);
+    }
+
+    /**
+     * Anexa ao teste informado um arquivo de mídia já gravado; usado fora da thread do cenário
+     */
+    public static void addMediaFromPath(ExtentTest test, Path arquivo, String description) {
+        if (test != null && arquivo != null) {
+            String caminho = Paths.get(REPORTS_PATH).toAbsolutePath().relativize(arquivo.toAbsolutePath())
+                    .toString().replace(File.separatorChar, '/');
+            test.info(description, MediaEntityBuilder.createScreenCaptureFromPath(caminho).build());
+            logger.debug("Mídia anexada: {}", caminho);
+        }
+    }
+    
+    /**
+     * Registra as métricas de desempenho de uma página no cenário atual e as anexa ao relatório
+     */
+    public static void registrarDesempenho(PagePerformance desempenho) {
+        desempenhoCenario.get().add(desempenho);
+        logStep(desempenho.resumir());
+    }
+    
+    /**
+     * Métricas de desempenho das páginas visitadas no cenário atual
+     */
+    public static List<PagePerformance> getDesempenhoCenario() {
+        return Collections.unmodifiableList(desempenhoCenario.get());
+    }
+    
+    /**
+     * Habilita a medição de desempenho das páginas para o cenário atual
+     */
+    public static void solicitarCapturaDesempenho() {
+        capturaDesempenhoSolicitada.set(true);
+    }
+    
+    /**
+     * Indica se o cenário atual pediu a medição de desempenho das páginas
+     */
+    public static boolean isCapturaDesempenhoSolicitada() {
+        return capturaDesempenhoSolicitada.get();
+    }
+    
+    /**
+     * Métricas da última página visitada no cenário atual (null se nenhuma foi medida)
+     */
+    public static PagePerformance getUltimoDesempenho() {
+        List<PagePerformance> desempenhos = desempenhoCenario.get();
+        return desempenhos.isEmpty() ? null : desempenhos.get(desempenhos.size() - 1);
+    }
+    
     /**
      * Remove o teste atual da thread
      */
     public static void removeTest() {
         extentTest.remove();
+        desempenhoCenario.remove();
+        capturaDesempenhoSolicitada.remove();
     }
     
     /**
@@ -0,0 +1,110 @@
+package br.com.cloudmatize.reports;
+
+import br.com.cloudmatize.config.ConfigManager;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.MediaEntityBuilder;
+import com.aventstack.extentreports.Status;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Processamento dos screenshots fora da thread do cenário
+ * O screenshot é capturado uma única vez pelo chamador; redimensionamento, gravação no ScreenshotStore e
+ * anexo ao ExtentReports (assim como a gravação do screencast de falha) acontecem em um executor limitado (screenshot.async.threads e
+ * screenshot.async.queue). Com a fila cheia a tarefa roda na própria thread do cenário, o que limita
+ * a memória retida. O flush do relatório aguarda as tarefas pendentes.
+ */
+public class ScreenshotProcessor {
+    private static final Logger logger = LogManager.getLogger(ScreenshotProcessor.class);
+    private static final long TEMPO_MAXIMO_PENDENTES_SEGUNDOS = 60;
+    private static volatile ScreenshotProcessor instance;
+
+    private final ThreadPoolExecutor executor;
+    private final Queue<Future<?>> pendentes = new ConcurrentLinkedQueue<>();
+
+    private ScreenshotProcessor() {
+        ConfigManager config = ConfigManager.getInstance();
+        int threads = Math.max(1, config.getScreenshotAsyncThreads());
+        this.executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, config.getScreenshotAsyncQueue())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "screenshot-processor");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    public static ScreenshotProcessor getInstance() {
+        if (instance == null) {
+            synchronized (ScreenshotProcessor.class) {
+                if (instance == null) {
+                    instance = new ScreenshotProcessor();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Anexa ao teste, em background, o PNG já capturado com o status informado
+     */
+    public void anexar(ExtentTest test, byte[] png, Status status, String descricao) {
+        if (test == null || png == null) {
+            return;
+        }
+        executar(descricao, () -> {
+            try {
+                String caminho = ScreenshotStore.getInstance().armazenar(png);
+                test.log(status, MediaEntityBuilder.createScreenCaptureFromPath(caminho, descricao).build());
+                logger.debug("Screenshot anexado: {}", descricao);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Executa no executor limitado uma tarefa de mídia do relatório; o flush aguarda sua conclusão
+     */
+    public void executar(String descricao, Runnable tarefa) {
+        pendentes.removeIf(Future::isDone);
+        pendentes.add(executor.submit(() -> {
+            try {
+                tarefa.run();
+            } catch (Exception e) {
+                logger.error("Erro ao processar mídia '{}': {}", descricao, e.getMessage(), e);
+            }
+        }));
+    }
+
+    /**
+     * Aguarda os screenshots em processamento, antes do flush do relatório
+     */
+    public void aguardarPendentes() {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(TEMPO_MAXIMO_PENDENTES_SEGUNDOS);
+        Future<?> tarefa;
+        while ((tarefa = pendentes.poll()) != null) {
+            try {
+                tarefa.get(Math.max(0, limite - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException | TimeoutException e) {
+                logger.warn("Screenshot não anexado ao relatório: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package br.com.cloudmatize.reports;
+
+import br.com.cloudmatize.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Armazenamento dos screenshots do relatório em arquivos endereçados pelo conteúdo
+ * O nome do arquivo é o SHA-256 da captura original, então telas idênticas são processadas e gravadas
+ * uma única vez. Antes da gravação o screenshot pode ser reduzido (screenshot.max.width) e recomprimido
+ * (screenshot.format=jpg). O relatório referencia o arquivo pelo caminho relativo ao seu diretório.
+ */
+public class ScreenshotStore {
+    private static final Logger logger = LogManager.getLogger(ScreenshotStore.class);
+    private static final String FORMATO_JPG = "jpg";
+    private static volatile ScreenshotStore instance;
+
+    private final Path diretorio;
+    private final String formato;
+    private final int larguraMaxima;
+    private final float qualidadeJpeg;
+    // Caminho relativo já gravado por hash da captura original
+    private final Map<String, String> armazenados = new ConcurrentHashMap<>();
+
+    private ScreenshotStore() {
+        ConfigManager config = ConfigManager.getInstance();
+        this.diretorio = Paths.get(ExtentTestManager.getScreenshotsPath());
+        this.formato = FORMATO_JPG.equalsIgnoreCase(config.getScreenshotFormat()) ? FORMATO_JPG : "png";
+        this.larguraMaxima = config.getScreenshotMaxWidth();
+        this.qualidadeJpeg = Math.min(100, Math.max(1, config.getScreenshotJpegQuality())) / 100f;
+    }
+
+    public static ScreenshotStore getInstance() {
+        if (instance == null) {
+            synchronized (ScreenshotStore.class) {
+                if (instance == null) {
+                    instance = new ScreenshotStore();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Grava o PNG capturado (se ainda não existir) e devolve o caminho relativo ao diretório do relatório,
+     * ex.: screenshots/3f2a...c9.png
+     */
+    public String armazenar(byte[] png) throws IOException {
+        String hash = sha256(png);
+        String existente = armazenados.get(hash);
+        if (existente != null) {
+            logger.debug("Screenshot repetido reaproveitado: {}", existente);
+            return existente;
+        }
+        String nome = hash + "." + formato;
+        Path arquivo = diretorio.resolve(nome);
+        if (!Files.exists(arquivo)) {
+            Files.createDirectories(diretorio);
+            // Grava em um temporário e move de forma atômica: um arquivo com o nome do hash está sempre completo
+            Path temporario = diretorio.resolve(nome + "." + Thread.currentThread().getId() + ".tmp");
+            try {
+                Files.write(temporario, processar(png));
+                Files.move(temporario, arquivo, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // Outra thread gravou o mesmo conteúdo ao mesmo tempo
+                logger.debug("Screenshot {} já gravado", nome);
+            } finally {
+                Files.deleteIfExists(temporario);
+            }
+        }
+        String caminho = diretorio.getFileName() + "/" + nome;
+        armazenados.put(hash, caminho);
+        return caminho;
+    }
+
+    /**
+     * Reduz para screenshot.max.width e recodifica no formato configurado; sem alterações devolve o PNG original
+     */
+    private byte[] processar(byte[] png) throws IOException {
+        boolean jpeg = FORMATO_JPG.equals(formato);
+        if (larguraMaxima <= 0 && !jpeg) {
+            return png;
+        }
+        BufferedImage imagem = ImageIO.read(new ByteArrayInputStream(png));
+        if (imagem == null) {
+            return png;
+        }
+        boolean reduzir = larguraMaxima > 0 && imagem.getWidth() > larguraMaxima;
+        if (!reduzir && !jpeg) {
+            return png;
+        }
+        if (reduzir) {
+            imagem = redimensionar(imagem);
+        }
+        return jpeg ? codificarJpeg(imagem) : codificarPng(imagem);
+    }
+
+    private BufferedImage redimensionar(BufferedImage original) {
+        int altura = (int) Math.round((double) original.getHeight() * larguraMaxima / original.getWidth());
+        BufferedImage reduzida = new BufferedImage(larguraMaxima, altura, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graficos = reduzida.createGraphics();
+        graficos.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graficos.drawImage(original, 0, 0, larguraMaxima, altura, null);
+        graficos.dispose();
+        return reduzida;
+    }
+
+    private static byte[] codificarPng(BufferedImage imagem) throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        ImageIO.write(imagem, "png", saida);
+        return saida.toByteArray();
+    }
+
+    private byte[] codificarJpeg(BufferedImage imagem) throws IOException {
+        // JPEG não tem canal alfa
+        BufferedImage rgb = imagem;
+        if (imagem.getType() != BufferedImage.TYPE_INT_RGB) {
+            rgb = new BufferedImage(imagem.getWidth(), imagem.getHeight(), BufferedImage.TYPE_INT_RGB);
+            Graphics2D graficos = rgb.createGraphics();
+            graficos.drawImage(imagem, 0, 0, null);
+            graficos.dispose();
+        }
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(saida)) {
+            writer.setOutput(stream);
+            ImageWriteParam parametros = writer.getDefaultWriteParam();
+            parametros.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            parametros.setCompressionQuality(qualidadeJpeg);
+            writer.write(null, new IIOImage(rgb, null, null), parametros);
+        } finally {
+            writer.dispose();
+        }
+        return saida.toByteArray();
+    }
+
+    private static String sha256(byte[] dados) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(dados));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 indisponível na JVM", e);
+        }
+    }
+}
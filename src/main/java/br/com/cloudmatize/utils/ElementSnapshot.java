@@ -0,0 +1,167 @@
+package br.com.cloudmatize.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Estado de um elemento capturado em lote no navegador
+ * Um único executeScript devolve presença, visibilidade, habilitação, seleção, texto, valor
+ * e atributos de vários localizadores nomeados, evitando um comando HTTP por propriedade
+ */
+public class ElementSnapshot {
+    private static final Logger logger = LogManager.getLogger(ElementSnapshot.class);
+
+    // Para cada localizador nomeado avalia o primeiro elemento encontrado, como o findElement
+    private static final String SCRIPT_CAPTURAR = LocatorScripts.FUNCOES_JS
+            + "var alvos = arguments[0], atributos = arguments[1], estados = {};"
+            + "for (var nome in alvos) {"
+            + "  var el = null;"
+            + "  try { el = __encontrar(alvos[nome])[0] || null; } catch (e) { el = null; }"
+            + "  if (!el) { estados[nome] = {presente: false}; continue; }"
+            + "  var attrs = {};"
+            + "  for (var i = 0; i < atributos.length; i++) { attrs[atributos[i]] = el.getAttribute(atributos[i]); }"
+            + "  estados[nome] = {"
+            + "    presente: true,"
+            + "    visivel: __visivel(el),"
+            + "    habilitado: !el.disabled,"
+            + "    selecionado: !!(el.checked || el.selected),"
+            + "    texto: el.innerText || '',"
+            + "    valor: el.value === undefined || el.value === null ? null : String(el.value),"
+            + "    atributos: attrs"
+            + "  };"
+            + "}"
+            + "return estados;";
+
+    private static final ElementSnapshot AUSENTE =
+            new ElementSnapshot(false, false, false, false, "", null, Collections.emptyMap());
+
+    private final boolean presente;
+    private final boolean visivel;
+    private final boolean habilitado;
+    private final boolean selecionado;
+    private final String texto;
+    private final String valor;
+    private final Map<String, String> atributos;
+
+    private ElementSnapshot(boolean presente, boolean visivel, boolean habilitado, boolean selecionado,
+                            String texto, String valor, Map<String, String> atributos) {
+        this.presente = presente;
+        this.visivel = visivel;
+        this.habilitado = habilitado;
+        this.selecionado = selecionado;
+        this.texto = texto;
+        this.valor = valor;
+        this.atributos = atributos;
+    }
+
+    /**
+     * Captura o estado de todos os localizadores nomeados em um único round trip
+     * Os atributos informados são lidos de cada elemento presente
+     */
+    public static Map<String, ElementSnapshot> capturar(WebDriver driver, Map<String, By> localizadores,
+                                                        String... atributos) {
+        Map<String, Map<String, String>> descritores = new LinkedHashMap<>();
+        localizadores.forEach((nome, localizador) -> descritores.put(nome, LocatorScripts.descrever(localizador)));
+
+        Object resultado = ((JavascriptExecutor) driver).executeScript(
+                SCRIPT_CAPTURAR, descritores, Arrays.asList(atributos));
+        Map<?, ?> estados = resultado instanceof Map ? (Map<?, ?>) resultado : Collections.emptyMap();
+
+        Map<String, ElementSnapshot> snapshots = new LinkedHashMap<>();
+        for (String nome : localizadores.keySet()) {
+            snapshots.put(nome, converter(estados.get(nome)));
+        }
+        logger.debug("Estados capturados: {}", snapshots);
+        return snapshots;
+    }
+
+    /**
+     * Repete a captura até a condição ser atendida ou o orçamento se esgotar
+     * Retorna a última captura em ambos os casos
+     */
+    public static Map<String, ElementSnapshot> aguardar(WebDriver driver, Map<String, By> localizadores,
+                                                        Duration orcamento,
+                                                        Predicate<Map<String, ElementSnapshot>> condicao) {
+        Map<String, ElementSnapshot> atendido = WaitEngine.aguardar(driver, orcamento, d -> {
+            Map<String, ElementSnapshot> snapshots = capturar(d, localizadores);
+            return condicao.test(snapshots) ? snapshots : null;
+        });
+        return atendido != null ? atendido : capturar(driver, localizadores);
+    }
+
+    /**
+     * Verifica se todos os snapshots atendem ao critério informado
+     */
+    public static boolean todos(Map<String, ElementSnapshot> snapshots, Predicate<ElementSnapshot> criterio) {
+        return snapshots.values().stream().allMatch(criterio);
+    }
+
+    private static ElementSnapshot converter(Object estado) {
+        if (!(estado instanceof Map) || !Boolean.TRUE.equals(((Map<?, ?>) estado).get("presente"))) {
+            return AUSENTE;
+        }
+        Map<?, ?> mapa = (Map<?, ?>) estado;
+        Map<String, String> atributos = new LinkedHashMap<>();
+        if (mapa.get("atributos") instanceof Map) {
+            ((Map<?, ?>) mapa.get("atributos")).forEach((nome, valor) ->
+                    atributos.put(String.valueOf(nome), valor != null ? String.valueOf(valor) : null));
+        }
+        return new ElementSnapshot(true,
+                Boolean.TRUE.equals(mapa.get("visivel")),
+                Boolean.TRUE.equals(mapa.get("habilitado")),
+                Boolean.TRUE.equals(mapa.get("selecionado")),
+                LocatorScripts.normalizarTexto(mapa.get("texto")),
+                mapa.get("valor") != null ? String.valueOf(mapa.get("valor")) : null,
+                atributos);
+    }
+
+    public boolean isPresente() {
+        return presente;
+    }
+
+    public boolean isVisivel() {
+        return visivel;
+    }
+
+    public boolean isHabilitado() {
+        return habilitado;
+    }
+
+    public boolean isSelecionado() {
+        return selecionado;
+    }
+
+    public String getTexto() {
+        return texto;
+    }
+
+    public String getValor() {
+        return valor;
+    }
+
+    /**
+     * Valor do atributo solicitado na captura, ou null se ausente
+     */
+    public String getAtributo(String nome) {
+        return atributos.get(nome);
+    }
+
+    @Override
+    public String toString() {
+        if (!presente) {
+            return "{ausente}";
+        }
+        return String.format("{visivel=%s, habilitado=%s, selecionado=%s, texto='%s'}",
+                visivel, habilitado, selecionado, texto);
+    }
+}
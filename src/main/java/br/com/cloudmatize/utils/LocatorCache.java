@@ -0,0 +1,203 @@
+package br.com.cloudmatize.utils;
+
+import br.com.cloudmatize.config.ConfigManager;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache persistente dos localizadores que resolveram cada elemento lógico
+ * Chave "PageClass#metodo" com uma pontuação por localizador: o vencedor sobe e os localizadores
+ * conhecidos avaliados antes dele sem corresponder são rebaixados. As resoluções de um passo só alteram
+ * as pontuações quando o passo passa, para que um localizador que devolveu o texto errado não seja
+ * promovido. O arquivo em target/ é carregado na
+ * primeira utilização e gravado ao final da execução, de modo que as próximas execuções
+ * tentem primeiro o localizador que já funcionou.
+ */
+public class LocatorCache {
+    private static final Logger logger = LogManager.getLogger(LocatorCache.class);
+    private static volatile LocatorCache instance;
+
+    private static final int PONTUACAO_MAXIMA = 10;
+    private static final int PONTUACAO_MINIMA = -PONTUACAO_MAXIMA;
+    private static final Type TIPO_ARQUIVO = new TypeToken<Map<String, Map<String, Integer>>>() { }.getType();
+
+    private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private final Map<String, Map<String, Integer>> pontuacoes = new ConcurrentHashMap<>();
+    private final boolean habilitado;
+    private final Path arquivo;
+    // Resoluções do passo em andamento, aplicadas em concluirPasso
+    private final ThreadLocal<List<Resolucao>> pendentes = ThreadLocal.withInitial(ArrayList::new);
+    private volatile boolean alterado;
+
+    private LocatorCache() {
+        this(ConfigManager.getInstance().isLocatorCacheEnabled(),
+                Paths.get(ConfigManager.getInstance().getLocatorCachePath()));
+    }
+
+    LocatorCache(boolean habilitado, Path arquivo) {
+        this.habilitado = habilitado;
+        this.arquivo = arquivo;
+        if (habilitado) {
+            carregar();
+        }
+    }
+
+    /**
+     * Thread-safe singleton com double-checked locking
+     */
+    public static LocatorCache getInstance() {
+        if (instance == null) {
+            synchronized (LocatorCache.class) {
+                if (instance == null) {
+                    instance = new LocatorCache();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Reordena os candidatos pela pontuação aprendida, mantendo a ordem original em caso de empate
+     */
+    public By[] ordenar(String chave, By... candidatos) {
+        Map<String, Integer> pontuacoesChave = pontuacoes.get(chave);
+        if (!habilitado || pontuacoesChave == null) {
+            return candidatos;
+        }
+        By[] ordenados = candidatos.clone();
+        Arrays.sort(ordenados, Comparator.comparingInt(
+                (By candidato) -> pontuacoesChave.getOrDefault(candidato.toString(), 0)).reversed());
+        return ordenados;
+    }
+
+    /**
+     * Registra o resultado de uma resolução feita com os candidatos na ordem informada
+     * A pontuação só é atualizada em concluirPasso, quando se sabe se o texto resolvido satisfez o passo
+     */
+    public void registrar(String chave, By[] candidatosAvaliados, ResolvedElement resolvido) {
+        if (habilitado) {
+            pendentes.get().add(new Resolucao(chave, candidatosAvaliados, resolvido));
+        }
+    }
+
+    /**
+     * Aplica as resoluções do passo que terminou quando ele passou; caso contrário, as descarta
+     */
+    public void concluirPasso(boolean passou) {
+        List<Resolucao> resolucoes = pendentes.get();
+        if (passou) {
+            resolucoes.forEach(r -> aplicar(r.chave, r.candidatosAvaliados, r.resolvido));
+        } else if (!resolucoes.isEmpty()) {
+            logger.debug("Passo com falha: {} resoluções de localizadores descartadas", resolucoes.size());
+        }
+        resolucoes.clear();
+    }
+
+    /**
+     * O vencedor é promovido; os candidatos avaliados antes dele (ou todos, sem vencedor) são rebaixados
+     */
+    private void aplicar(String chave, By[] candidatosAvaliados, ResolvedElement resolvido) {
+        Map<String, Integer> pontuacoesChave = pontuacoes.computeIfAbsent(chave, k -> new ConcurrentHashMap<>());
+        int rebaixados = resolvido != null ? resolvido.getIndice() : candidatosAvaliados.length;
+        for (int i = 0; i < rebaixados; i++) {
+            String localizador = candidatosAvaliados[i].toString();
+            // Apenas localizadores já conhecidos são rebaixados; um vencedor que deixou de corresponder
+            // cai imediatamente para baixo dos candidatos neutros
+            Integer atual = pontuacoesChave.get(localizador);
+            if (atual != null && atual > PONTUACAO_MINIMA) {
+                pontuacoesChave.put(localizador, Math.max(PONTUACAO_MINIMA, Math.min(atual, 0) - 1));
+                alterado = true;
+                logger.debug("Localizador rebaixado em {}: {}", chave, localizador);
+            }
+        }
+        if (resolvido != null) {
+            pontuacoesChave.merge(resolvido.getLocalizador().toString(), 1,
+                    (atual, delta) -> Math.min(PONTUACAO_MAXIMA, atual + delta));
+            alterado = true;
+        }
+    }
+
+    /**
+     * Grava o cache em disco quando houve alterações na execução
+     */
+    public synchronized void salvar() {
+        if (!habilitado || !alterado) {
+            return;
+        }
+        try {
+            Files.createDirectories(arquivo.toAbsolutePath().getParent());
+            Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+            Map<String, Map<String, Integer>> ordenado = new TreeMap<>();
+            pontuacoes.forEach((chave, valores) -> ordenado.put(chave, new TreeMap<>(valores)));
+            try (Writer writer = Files.newBufferedWriter(temporario, StandardCharsets.UTF_8)) {
+                gson.toJson(ordenado, TIPO_ARQUIVO, writer);
+            }
+            Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            alterado = false;
+            logger.info("Cache de localizadores gravado em {} ({} elementos)", arquivo, ordenado.size());
+        } catch (IOException e) {
+            logger.warn("Erro ao gravar cache de localizadores em {}: {}", arquivo, e.getMessage());
+        }
+    }
+
+    /**
+     * Pontuação atual do localizador na chave (0 quando desconhecido)
+     */
+    int pontuacao(String chave, By localizador) {
+        Map<String, Integer> pontuacoesChave = pontuacoes.get(chave);
+        return pontuacoesChave != null ? pontuacoesChave.getOrDefault(localizador.toString(), 0) : 0;
+    }
+
+    private void carregar() {
+        if (!Files.exists(arquivo)) {
+            logger.debug("Cache de localizadores inexistente em {}, iniciando vazio", arquivo);
+            return;
+        }
+        try (Reader reader = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+            Map<String, Map<String, Integer>> lidos = gson.fromJson(reader, TIPO_ARQUIVO);
+            if (lidos != null) {
+                lidos.forEach((chave, valores) -> pontuacoes.put(chave, new ConcurrentHashMap<>(valores)));
+            }
+            logger.info("Cache de localizadores carregado de {} ({} elementos)", arquivo, pontuacoes.size());
+        } catch (IOException | JsonParseException e) {
+            logger.warn("Cache de localizadores inválido em {}, iniciando vazio: {}", arquivo, e.getMessage());
+        }
+    }
+
+    /**
+     * Resolução registrada durante um passo, ainda não aplicada
+     */
+    private static final class Resolucao {
+        private final String chave;
+        private final By[] candidatosAvaliados;
+        private final ResolvedElement resolvido;
+
+        private Resolucao(String chave, By[] candidatosAvaliados, ResolvedElement resolvido) {
+            this.chave = chave;
+            this.candidatosAvaliados = candidatosAvaliados;
+            this.resolvido = resolvido;
+        }
+    }
+}
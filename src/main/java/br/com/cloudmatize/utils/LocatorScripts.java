@@ -0,0 +1,91 @@
+package br.com.cloudmatize.utils;
+
+import org.openqa.selenium.By;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tradução de localizadores By para descritores avaliados no navegador
+ * Permite resolver vários localizadores em um único executeScript
+ */
+final class LocatorScripts {
+
+    private static final List<String> TIPOS_SUPORTADOS = Arrays.asList(
+            "id", "cssSelector", "xpath", "className", "name", "tagName", "linkText", "partialLinkText");
+
+    /**
+     * Funções JavaScript compartilhadas pelos scripts que recebem descritores:
+     * __encontrar(descritor) retorna a lista de elementos e __visivel(elemento) aplica a regra de visibilidade
+     */
+    static final String FUNCOES_JS =
+            "function __encontrar(d) {"
+            + "  var v = d.valor;"
+            + "  switch (d.tipo) {"
+            + "    case 'id': return Array.prototype.slice.call(document.querySelectorAll('[id=\"' + v.replace(/\"/g, '\\\\\"') + '\"]'));"
+            + "    case 'cssSelector': return Array.prototype.slice.call(document.querySelectorAll(v));"
+            + "    case 'className': return Array.prototype.slice.call(document.getElementsByClassName(v));"
+            + "    case 'name': return Array.prototype.slice.call(document.getElementsByName(v));"
+            + "    case 'tagName': return Array.prototype.slice.call(document.getElementsByTagName(v));"
+            + "    case 'xpath':"
+            + "      var snap = document.evaluate(v, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+            + "      var nos = [];"
+            + "      for (var i = 0; i < snap.snapshotLength; i++) { if (snap.snapshotItem(i).nodeType === 1) nos.push(snap.snapshotItem(i)); }"
+            + "      return nos;"
+            + "    case 'linkText': return Array.prototype.filter.call(document.getElementsByTagName('a'), function(a) { return a.innerText.trim() === v; });"
+            + "    case 'partialLinkText': return Array.prototype.filter.call(document.getElementsByTagName('a'), function(a) { return a.innerText.indexOf(v) >= 0; });"
+            + "  }"
+            + "  return [];"
+            + "}"
+            + "function __visivel(el) {"
+            + "  if (!el || !el.isConnected) return false;"
+            + "  var s = window.getComputedStyle(el);"
+            + "  if (s.visibility === 'hidden' || s.display === 'none') return false;"
+            + "  return !!(el.offsetWidth || el.offsetHeight || el.getClientRects().length);"
+            + "}";
+
+    private LocatorScripts() {
+        // Construtor privado para classe utilitária
+    }
+
+    /**
+     * Converte o By em um descritor {tipo, valor} serializável como argumento de executeScript
+     * Baseado no toString padrão dos localizadores do Selenium ("By.id: valor")
+     */
+    static Map<String, String> descrever(By localizador) {
+        String texto = localizador.toString();
+        int separador = texto.indexOf(": ");
+        if (!texto.startsWith("By.") || separador < 0) {
+            throw new IllegalArgumentException("Localizador não suportado para avaliação no navegador: " + texto);
+        }
+        String tipo = texto.substring(3, separador);
+        if (!TIPOS_SUPORTADOS.contains(tipo)) {
+            throw new IllegalArgumentException("Tipo de localizador não suportado: " + tipo);
+        }
+        Map<String, String> descritor = new HashMap<>();
+        descritor.put("tipo", tipo);
+        descritor.put("valor", texto.substring(separador + 2));
+        return descritor;
+    }
+
+    /**
+     * Converte uma lista de localizadores em descritores, preservando a ordem
+     */
+    static List<Map<String, String>> descrever(By... localizadores) {
+        List<Map<String, String>> descritores = new ArrayList<>();
+        for (By localizador : localizadores) {
+            descritores.add(descrever(localizador));
+        }
+        return descritores;
+    }
+
+    /**
+     * Normaliza o texto retornado pelo navegador da mesma forma que WebElementUtils.obterTexto
+     */
+    static String normalizarTexto(Object texto) {
+        return texto == null ? "" : texto.toString().trim().replaceAll("\\s+", " ");
+    }
+}
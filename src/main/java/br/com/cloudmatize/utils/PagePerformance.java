@@ -0,0 +1,111 @@
+package br.com.cloudmatize.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Métricas de desempenho medidas pelo próprio navegador após a navegação de um page object
+ * Navigation Timing, Paint Timing e Largest Contentful Paint são lidos por um PerformanceObserver
+ * com buffered=true, que entrega também as entradas registradas antes da observação começar
+ */
+public class PagePerformance {
+    private static final String DOM_CONTENT_LOADED = "domContentLoadedMs";
+    private static final String LOAD = "loadMs";
+
+    // Coleta as entradas já registradas e devolve o resultado após a entrega assíncrona do observer
+    private static final String SCRIPT_CAPTURAR =
+            "var callback = arguments[arguments.length - 1], m = {};"
+            + "function registrar(e) {"
+            + "  if (e.entryType === 'navigation') {"
+            + "    m.ttfbMs = e.responseStart; m.domContentLoadedMs = e.domContentLoadedEventEnd;"
+            + "    m.loadMs = e.loadEventEnd; m.transferenciaBytes = e.transferSize;"
+            + "  } else if (e.name === 'first-paint') { m.firstPaintMs = e.startTime; }"
+            + "  else if (e.name === 'first-contentful-paint') { m.firstContentfulPaintMs = e.startTime; }"
+            + "  else if (e.entryType === 'largest-contentful-paint') { m.largestContentfulPaintMs = e.startTime; }"
+            + "}"
+            + "var tipos = ['navigation', 'paint', 'largest-contentful-paint'];"
+            + "if (!window.PerformanceObserver || !PerformanceObserver.supportedEntryTypes) {"
+            + "  tipos.forEach(function(t) { performance.getEntriesByType(t).forEach(registrar); });"
+            + "  callback(m); return;"
+            + "}"
+            + "var observer = new PerformanceObserver(function(lista) { lista.getEntries().forEach(registrar); });"
+            + "tipos.forEach(function(t) {"
+            + "  if (PerformanceObserver.supportedEntryTypes.indexOf(t) >= 0) observer.observe({type: t, buffered: true});"
+            + "});"
+            + "setTimeout(function() {"
+            + "  observer.takeRecords().forEach(registrar); observer.disconnect(); callback(m);"
+            + "}, 50);";
+
+    private final String pagina;
+    private final String url;
+    private final Map<String, Long> metricas;
+
+    private PagePerformance(String pagina, String url, Map<String, Long> metricas) {
+        this.pagina = pagina;
+        this.url = url;
+        this.metricas = Collections.unmodifiableMap(metricas);
+    }
+
+    /**
+     * Mede a página atual do driver em um único script assíncrono
+     */
+    public static PagePerformance capturar(WebDriver driver, String pagina) {
+        Object retorno = ((JavascriptExecutor) driver).executeAsyncScript(SCRIPT_CAPTURAR);
+        Map<String, Long> metricas = new LinkedHashMap<>();
+        if (retorno instanceof Map) {
+            ((Map<?, ?>) retorno).forEach((chave, valor) -> {
+                if (valor instanceof Number) {
+                    metricas.put(String.valueOf(chave), Math.round(((Number) valor).doubleValue()));
+                }
+            });
+        }
+        return new PagePerformance(pagina, driver.getCurrentUrl(), metricas);
+    }
+
+    /**
+     * Tempo de carregamento usado nos orçamentos: o fim do evento load ou, se a página ainda não
+     * o disparou (page.load.strategy eager/none), o fim do DOMContentLoaded
+     */
+    public long getCarregamentoMs() {
+        return isLoadDisponivel() ? metricas.get(LOAD) : metricas.getOrDefault(DOM_CONTENT_LOADED, 0L);
+    }
+
+    /**
+     * Nome da métrica usada em getCarregamentoMs ("load" ou "DOMContentLoaded"), exibido nas validações
+     */
+    public String getMetricaCarregamento() {
+        return isLoadDisponivel() ? "load" : "DOMContentLoaded";
+    }
+
+    private boolean isLoadDisponivel() {
+        return metricas.getOrDefault(LOAD, 0L) > 0;
+    }
+
+    public String getPagina() {
+        return pagina;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public Map<String, Long> getMetricas() {
+        return metricas;
+    }
+
+    /**
+     * Resumo em uma linha, ex.: "Desempenho SimpleFormPage: carregamento (load) 812 ms | ttfbMs=95, loadMs=812, ..."
+     */
+    public String resumir() {
+        String detalhes = metricas.entrySet().stream()
+                .map(entrada -> entrada.getKey() + "=" + entrada.getValue())
+                .collect(Collectors.joining(", "));
+        return String.format("Desempenho %s: carregamento (%s) %d ms | %s", pagina, getMetricaCarregamento(),
+                getCarregamentoMs(), detalhes);
+    }
+}
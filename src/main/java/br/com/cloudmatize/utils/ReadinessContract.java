@@ -0,0 +1,105 @@
+package br.com.cloudmatize.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Contrato de prontidão de uma página: o estado mínimo do documento e os elementos que
+ * precisam atender a uma condição para a página ser considerada utilizável
+ * Todo o contrato é avaliado em um único script composto, permitindo encerrar a navegação
+ * quando a página está interativa em vez de aguardar o carregamento completo
+ */
+public class ReadinessContract {
+    private static final Logger logger = LogManager.getLogger(ReadinessContract.class);
+
+    /**
+     * Condição exigida de um elemento do contrato
+     */
+    public enum Condicao {
+        PRESENTE, VISIVEL, HABILITADO, COM_TEXTO
+    }
+
+    // Retorna a lista de itens pendentes; lista vazia significa contrato atendido
+    private static final String SCRIPT_VERIFICAR = LocatorScripts.FUNCOES_JS
+            + "var contrato = arguments[0], pendentes = [];"
+            + "var estados = ['loading', 'interactive', 'complete'];"
+            + "if (estados.indexOf(document.readyState) < estados.indexOf(contrato.estadoDocumento)) {"
+            + "  pendentes.push('document.readyState=' + document.readyState);"
+            + "}"
+            + "if (contrato.url && location.href.indexOf(contrato.url) < 0) {"
+            + "  pendentes.push('url=' + location.href);"
+            + "}"
+            + "for (var i = 0; i < contrato.itens.length; i++) {"
+            + "  var item = contrato.itens[i], el = null;"
+            + "  try { el = __encontrar(item.localizador)[0] || null; } catch (e) { el = null; }"
+            + "  var ok = !!el;"
+            + "  if (ok && item.condicao !== 'PRESENTE') ok = __visivel(el);"
+            + "  if (ok && item.condicao === 'HABILITADO') ok = !el.disabled;"
+            + "  if (ok && item.condicao === 'COM_TEXTO') ok = (el.innerText || '').trim().length > 0;"
+            + "  if (!ok) pendentes.push(item.nome + ' (' + item.condicao + ')');"
+            + "}"
+            + "return pendentes;";
+
+    private final List<Map<String, Object>> itens = new ArrayList<>();
+    private String estadoDocumento = "interactive";
+
+    /**
+     * Exige que o elemento atenda à condição informada
+     */
+    public ReadinessContract exigir(String nome, By localizador, Condicao condicao) {
+        Map<String, Object> item = new HashMap<>();
+        item.put("nome", nome);
+        item.put("localizador", LocatorScripts.descrever(localizador));
+        item.put("condicao", condicao.name());
+        itens.add(item);
+        return this;
+    }
+
+    /**
+     * Estado mínimo de document.readyState (loading, interactive ou complete)
+     */
+    public ReadinessContract estadoDocumento(String estadoMinimo) {
+        this.estadoDocumento = estadoMinimo;
+        return this;
+    }
+
+    /**
+     * Avalia o contrato com um único executeScript e retorna os itens pendentes
+     * Com urlEsperada informada, a página atual precisa conter esse trecho na URL
+     */
+    public List<String> verificar(WebDriver driver, String urlEsperada) {
+        Map<String, Object> contrato = new HashMap<>();
+        contrato.put("estadoDocumento", estadoDocumento);
+        contrato.put("url", urlEsperada);
+        contrato.put("itens", itens);
+        Object resultado = ((JavascriptExecutor) driver).executeScript(SCRIPT_VERIFICAR, contrato);
+        if (!(resultado instanceof List)) {
+            return Collections.singletonList("resultado inesperado: " + resultado);
+        }
+        return ((List<?>) resultado).stream().map(String::valueOf).collect(Collectors.toList());
+    }
+
+    /**
+     * Repete a avaliação até o contrato ser atendido ou o orçamento se esgotar
+     */
+    public boolean aguardar(WebDriver driver, String urlEsperada, Duration orcamento) {
+        Boolean atendido = WaitEngine.aguardar(driver, orcamento, d -> verificar(d, urlEsperada).isEmpty() ? true : null);
+        if (atendido == null) {
+            logger.warn("Contrato de prontidão não atendido em {} ms. Pendências: {}",
+                    orcamento.toMillis(), verificar(driver, urlEsperada));
+            return false;
+        }
+        return true;
+    }
+}
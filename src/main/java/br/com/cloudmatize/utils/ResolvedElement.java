@@ -0,0 +1,46 @@
+package br.com.cloudmatize.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Resultado da resolução de uma lista de localizadores candidatos
+ * Guarda o elemento vencedor, o texto normalizado e qual candidato o encontrou
+ */
+public class ResolvedElement {
+    private final WebElement elemento;
+    private final String texto;
+    private final int indice;
+    private final By localizador;
+
+    ResolvedElement(WebElement elemento, String texto, int indice, By localizador) {
+        this.elemento = elemento;
+        this.texto = texto;
+        this.indice = indice;
+        this.localizador = localizador;
+    }
+
+    public WebElement getElemento() {
+        return elemento;
+    }
+
+    public String getTexto() {
+        return texto;
+    }
+
+    /**
+     * Posição do candidato vencedor na lista informada
+     */
+    public int getIndice() {
+        return indice;
+    }
+
+    public By getLocalizador() {
+        return localizador;
+    }
+
+    @Override
+    public String toString() {
+        return "candidato " + indice + " (" + localizador + "): '" + texto + "'";
+    }
+}
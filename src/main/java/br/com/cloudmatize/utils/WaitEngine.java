@@ -0,0 +1,214 @@
+package br.com.cloudmatize.utils;
+
+import br.com.cloudmatize.config.ConfigManager;
+import br.com.cloudmatize.driver.DriverFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.FluentWait;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Motor de esperas para sondagens de presença e ausência de elementos
+ * Executa as sondagens com a espera implícita zerada e um orçamento explícito de polling por chamada,
+ * de modo que um elemento ausente não consome a espera implícita global do WebDriver
+ */
+public final class WaitEngine {
+    private static final Logger logger = LogManager.getLogger(WaitEngine.class);
+    private static final Duration INTERVALO_POLLING = Duration.ofMillis(100);
+
+    // Evita alternar a espera implícita em chamadas aninhadas na mesma thread
+    private static final ThreadLocal<Integer> profundidadeSemEsperaImplicita = ThreadLocal.withInitial(() -> 0);
+
+    private static final AtomicLong sequenciaObservadores = new AtomicLong();
+
+    // Registra o texto inicial dos alvos e marca o estado como disparado quando um alvo aparece,
+    // muda de texto ou de visibilidade (style/class/hidden nele ou em um ancestral) ou sofre mutação na própria subárvore
+    private static final String SCRIPT_INSTALAR_OBSERVADOR = LocatorScripts.FUNCOES_JS
+            + "var chave = arguments[0], alvos = arguments[1];"
+            + "function primeiro(d) { try { return __encontrar(d)[0] || null; } catch (e) { return null; } }"
+            + "var iniciais = alvos.map(function(d) { var el = primeiro(d); return el ? el.innerText : null; });"
+            + "var visiveis = alvos.map(function(d) { var el = primeiro(d); return el ? __visivel(el) : false; });"
+            + "var estado = {disparado: false, callback: null};"
+            + "function disparar() {"
+            + "  if (estado.disparado) return;"
+            + "  estado.disparado = true;"
+            + "  estado.observer.disconnect();"
+            + "  if (estado.callback) { var cb = estado.callback; delete window[chave]; cb(true); }"
+            + "}"
+            + "estado.observer = new MutationObserver(function(mutacoes) {"
+            + "  for (var i = 0; i < alvos.length; i++) {"
+            + "    var el = primeiro(alvos[i]);"
+            + "    if (!el) continue;"
+            + "    if (el.innerText !== iniciais[i]) { disparar(); return; }"
+            + "    if (__visivel(el) !== visiveis[i]) { disparar(); return; }"
+            + "    for (var j = 0; j < mutacoes.length; j++) {"
+            + "      if (mutacoes[j].type === 'attributes') continue;"
+            + "      if (el === mutacoes[j].target || el.contains(mutacoes[j].target)) { disparar(); return; }"
+            + "    }"
+            + "  }"
+            + "});"
+            + "estado.observer.observe(document.documentElement, {childList: true, subtree: true, characterData: true,"
+            + "  attributes: true, attributeFilter: ['style', 'class', 'hidden']});"
+            + "window[chave] = estado;";
+
+    // Resolve imediatamente se o observador já disparou; caso contrário aguarda o disparo ou o orçamento
+    private static final String SCRIPT_AGUARDAR_OBSERVADOR =
+            "var chave = arguments[0], orcamento = arguments[1], callback = arguments[arguments.length - 1];"
+            + "var estado = window[chave];"
+            + "if (!estado) { callback(false); return; }"
+            + "if (estado.disparado) { delete window[chave]; callback(true); return; }"
+            + "estado.callback = callback;"
+            + "setTimeout(function() {"
+            + "  if (estado.disparado) return;"
+            + "  estado.observer.disconnect();"
+            + "  delete window[chave];"
+            + "  callback(false);"
+            + "}, orcamento);";
+
+    private WaitEngine() {
+        // Construtor privado para classe utilitária
+    }
+
+    /**
+     * Orçamento padrão das esperas explícitas, definido em explicit.wait
+     */
+    public static Duration orcamentoPadrao() {
+        return Duration.ofSeconds(ConfigManager.getInstance().getExplicitWait());
+    }
+
+    /**
+     * Executa a ação com a espera implícita zerada, restaurando o valor padrão ao final
+     */
+    public static <T> T semEsperaImplicita(WebDriver driver, Supplier<T> acao) {
+        int profundidade = profundidadeSemEsperaImplicita.get();
+        if (profundidade == 0) {
+            driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        }
+        profundidadeSemEsperaImplicita.set(profundidade + 1);
+        try {
+            return acao.get();
+        } finally {
+            profundidadeSemEsperaImplicita.set(profundidade);
+            if (profundidade == 0) {
+                try {
+                    driver.manage().timeouts().implicitlyWait(DriverFactory.getImplicitWait());
+                } catch (Exception e) {
+                    logger.debug("Erro ao restaurar espera implícita: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Indica se a thread atual está dentro de semEsperaImplicita, com a espera implícita zerada
+     */
+    public static boolean isEsperaImplicitaZerada() {
+        return profundidadeSemEsperaImplicita.get() > 0;
+    }
+
+    /**
+     * Faz polling da condição até ela retornar um valor não nulo e diferente de false
+     * Retorna null quando o orçamento se esgota
+     */
+    public static <T> T aguardar(WebDriver driver, Duration orcamento, Function<WebDriver, T> condicao) {
+        return semEsperaImplicita(driver, () -> {
+            try {
+                return new FluentWait<>(driver)
+                        .withTimeout(orcamento)
+                        .pollingEvery(INTERVALO_POLLING)
+                        .ignoring(NoSuchElementException.class)
+                        .ignoring(StaleElementReferenceException.class)
+                        .until(condicao);
+            } catch (TimeoutException e) {
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Aguarda o elemento estar presente no DOM dentro do orçamento informado
+     */
+    public static boolean aguardarPresenca(WebDriver driver, By localizador, Duration orcamento) {
+        return aguardar(driver, orcamento, d -> !d.findElements(localizador).isEmpty()) != null;
+    }
+
+    /**
+     * Aguarda o elemento estar presente e visível dentro do orçamento informado
+     */
+    public static boolean aguardarVisibilidade(WebDriver driver, By localizador, Duration orcamento) {
+        return aguardar(driver, orcamento, d -> {
+            List<WebElement> elementos = d.findElements(localizador);
+            return !elementos.isEmpty() && elementos.get(0).isDisplayed();
+        }) != null;
+    }
+
+    /**
+     * Aguarda o elemento sair do DOM; retorna imediatamente quando ele já está ausente
+     */
+    public static boolean aguardarAusencia(WebDriver driver, By localizador, Duration orcamento) {
+        return aguardar(driver, orcamento, d -> d.findElements(localizador).isEmpty()) != null;
+    }
+
+    /**
+     * Executa a ação e aguarda, com um único executeAsyncScript, algum dos alvos aparecer ou ter o conteúdo alterado
+     * O MutationObserver é instalado antes da ação, registrando o texto inicial de cada alvo, e a
+     * chamada assíncrona resolve assim que uma mutação relevante ocorre ou o orçamento se esgota
+     * Retorna false quando nenhum alvo mudou dentro do orçamento
+     */
+    public static boolean aguardarMutacao(WebDriver driver, Runnable acao, Duration orcamento, By... alvos) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        String chave = "__observadorMutacao" + sequenciaObservadores.incrementAndGet();
+        try {
+            js.executeScript(SCRIPT_INSTALAR_OBSERVADOR, chave, LocatorScripts.descrever(alvos));
+        } catch (Exception e) {
+            logger.debug("MutationObserver indisponível, usando polling: {}", e.getMessage());
+            acao.run();
+            return aguardar(driver, orcamento, d -> WebElementUtils.resolveFirst(d, alvos)) != null;
+        }
+
+        try {
+            acao.run();
+        } catch (RuntimeException e) {
+            removerObservador(js, chave);
+            throw e;
+        }
+
+        try {
+            Object mudou = js.executeAsyncScript(SCRIPT_AGUARDAR_OBSERVADOR, chave, orcamento.toMillis());
+            logger.debug("Mutação observada em {}: {}", Arrays.toString(alvos), mudou);
+            return Boolean.TRUE.equals(mudou);
+        } catch (Exception e) {
+            // A ação pode ter navegado para outra página, descartando o observador
+            logger.debug("Erro ao aguardar mutação em {}: {}", Arrays.toString(alvos), e.getMessage());
+            return WebElementUtils.resolveFirst(driver, alvos) != null;
+        }
+    }
+
+    private static void removerObservador(JavascriptExecutor js, String chave) {
+        try {
+            js.executeScript("var o = window[arguments[0]]; if (o) { o.observer.disconnect(); delete window[arguments[0]]; }", chave);
+        } catch (Exception e) {
+            logger.debug("Erro ao remover MutationObserver: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Sondagem instantânea de presença, sem nenhuma espera
+     */
+    public static boolean estaPresenteAgora(WebDriver driver, By localizador) {
+        return aguardarPresenca(driver, localizador, Duration.ZERO);
+    }
+}
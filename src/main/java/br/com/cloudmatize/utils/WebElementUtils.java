@@ -4,7 +4,11 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.Select;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utilitários robustos para interações com elementos web
@@ -51,26 +55,40 @@ public class WebElementUtils {
 
     /**
      * Verifica se elemento está presente na página
+     * Usa o orçamento de explicit.wait com espera implícita zerada
      */
     public static boolean elementoEstaPresente(WebDriver driver, By localizador) {
-        try {
-            driver.findElement(localizador);
-            return true;
-        } catch (NoSuchElementException e) {
-            return false;
-        }
+        return WaitEngine.aguardarPresenca(driver, localizador, WaitEngine.orcamentoPadrao());
+    }
+
+    /**
+     * Verifica se elemento está presente na página dentro do orçamento informado
+     */
+    public static boolean elementoEstaPresente(WebDriver driver, By localizador, Duration orcamento) {
+        return WaitEngine.aguardarPresenca(driver, localizador, orcamento);
+    }
+
+    /**
+     * Verifica se elemento está ausente da página
+     * Retorna em milissegundos quando o elemento não existe
+     */
+    public static boolean elementoEstaAusente(WebDriver driver, By localizador) {
+        return WaitEngine.aguardarAusencia(driver, localizador, WaitEngine.orcamentoPadrao());
     }
 
     /**
      * Verifica se elemento está visível
+     * Usa o orçamento de explicit.wait com espera implícita zerada
      */
     public static boolean elementoEstaVisivel(WebDriver driver, By localizador) {
-        try {
-            WebElement elemento = driver.findElement(localizador);
-            return elemento.isDisplayed();
-        } catch (NoSuchElementException | StaleElementReferenceException e) {
-            return false;
-        }
+        return WaitEngine.aguardarVisibilidade(driver, localizador, WaitEngine.orcamentoPadrao());
+    }
+
+    /**
+     * Verifica se elemento está visível dentro do orçamento informado
+     */
+    public static boolean elementoEstaVisivel(WebDriver driver, By localizador, Duration orcamento) {
+        return WaitEngine.aguardarVisibilidade(driver, localizador, orcamento);
     }
 
     /**
@@ -97,6 +115,55 @@ public class WebElementUtils {
         }
     }
 
+    // =============================================================================
+    // MÉTODOS DE RESOLUÇÃO DE LOCALIZADORES CANDIDATOS
+    // =============================================================================
+
+    // Avalia os candidatos em ordem e devolve o primeiro elemento visível com texto
+    private static final String SCRIPT_RESOLVER_PRIMEIRO = LocatorScripts.FUNCOES_JS
+            + "var candidatos = arguments[0];"
+            + "for (var i = 0; i < candidatos.length; i++) {"
+            + "  var elementos;"
+            + "  try { elementos = __encontrar(candidatos[i]); } catch (e) { continue; }"
+            + "  for (var j = 0; j < elementos.length; j++) {"
+            + "    var el = elementos[j];"
+            + "    if (!__visivel(el)) continue;"
+            + "    var texto = (el.innerText || el.textContent || '').trim();"
+            + "    if (texto.length > 0) return {indice: i, elemento: el, texto: texto};"
+            + "  }"
+            + "}"
+            + "return null;";
+
+    /**
+     * Resolve a lista de localizadores com um único executeScript
+     * Retorna o primeiro elemento visível e com texto, na ordem dos candidatos, ou null se nenhum corresponder
+     */
+    public static ResolvedElement resolveFirst(WebDriver driver, By... candidatos) {
+        if (candidatos.length == 0) {
+            return null;
+        }
+        Object resultado = ((JavascriptExecutor) driver).executeScript(
+                SCRIPT_RESOLVER_PRIMEIRO, LocatorScripts.descrever(candidatos));
+        if (!(resultado instanceof Map)) {
+            logger.debug("Nenhum dos {} candidatos retornou elemento visível com texto", candidatos.length);
+            return null;
+        }
+        Map<?, ?> mapa = (Map<?, ?>) resultado;
+        int indice = ((Number) mapa.get("indice")).intValue();
+        ResolvedElement resolvido = new ResolvedElement((WebElement) mapa.get("elemento"),
+                LocatorScripts.normalizarTexto(mapa.get("texto")), indice, candidatos[indice]);
+        logger.debug("Localizador resolvido: {}", resolvido);
+        return resolvido;
+    }
+
+    /**
+     * Resolve a lista de localizadores repetindo a avaliação até o orçamento informado
+     * Cada tentativa continua sendo um único round trip ao navegador
+     */
+    public static ResolvedElement resolveFirst(WebDriver driver, Duration orcamento, By... candidatos) {
+        return WaitEngine.aguardar(driver, orcamento, d -> resolveFirst(d, candidatos));
+    }
+
     // =============================================================================
     // MÉTODOS DE INTERAÇÃO ROBUSTA
     // =============================================================================
@@ -235,18 +302,39 @@ public class WebElementUtils {
     // MÉTODOS DE BUSCA POR TEXTO
     // =============================================================================
 
+    // Estratégia vencedora por texto do botão e URL da página (sem fragmento)
+    private static final Map<String, Map<String, Integer>> estrategiaPorBotao = new ConcurrentHashMap<>();
+
+    // Tenta primeiro a estratégia aprendida para a URL atual e depois as demais, na ordem
+    // Retorna o primeiro elemento visível e habilitado, o índice da estratégia e a URL avaliada
+    private static final String SCRIPT_ENCONTRAR_BOTAO = LocatorScripts.FUNCOES_JS
+            + "var seletores = arguments[0];"
+            + "var url = location.href.split('#')[0];"
+            + "var aprendida = arguments[1][url];"
+            + "var ordem = [];"
+            + "if (aprendida !== undefined && aprendida !== null) ordem.push(aprendida);"
+            + "for (var i = 0; i < seletores.length; i++) { if (i !== aprendida) ordem.push(i); }"
+            + "for (var k = 0; k < ordem.length; k++) {"
+            + "  var elementos = __encontrar({tipo: 'xpath', valor: seletores[ordem[k]]});"
+            + "  if (elementos.length > 0 && __visivel(elementos[0]) && !elementos[0].disabled) {"
+            + "    return {indice: ordem[k], elemento: elementos[0], url: url};"
+            + "  }"
+            + "}"
+            + "return null;";
+
     /**
      * Encontra botão pelo texto exato - método genérico para qualquer página
      * Tenta múltiplos seletores para encontrar botões com diferentes estruturas HTML
      */
     public static WebElement encontrarBotaoPorTexto(WebDriver driver, String textoBotao) {
-        // Não há mais timeout customizado, usa espera implícita do WebDriver
+        // Timeout zero usa o orçamento padrão de explicit.wait
         return encontrarBotaoPorTexto(driver, textoBotao, 0);
     }
 
     /**
      * Encontra botão pelo texto exato com timeout customizado
-     * Tenta múltiplos seletores para máxima compatibilidade
+     * Avalia todas as estratégias em uma única chamada ao navegador, começando pela
+     * estratégia que já encontrou o mesmo botão na mesma URL
      */
     public static WebElement encontrarBotaoPorTexto(WebDriver driver, String textoBotao, int timeoutSegundos) {
         logger.info("Procurando botão com texto: '{}'", textoBotao);
@@ -264,17 +352,22 @@ public class WebElementUtils {
             String.format("//*[contains(@class, 'button') and normalize-space(text())='%s']", textoBotao),
             String.format("//*[contains(@class, 'btn-') and normalize-space(text())='%s']", textoBotao)
         };
-        for (String seletor : seletores) {
-            try {
-                By localizador = By.xpath(seletor);
-                WebElement elemento = driver.findElement(localizador);
-                if (elemento.isDisplayed() && elemento.isEnabled()) {
-                    logger.info("Botão '{}' encontrado com seletor: {}", textoBotao, seletor);
-                    return elemento;
-                }
-            } catch (NoSuchElementException e) {
-                logger.debug("Seletor não encontrou o botão '{}': {}", textoBotao, seletor);
-            }
+        Map<String, Integer> estrategiasAprendidas =
+                estrategiaPorBotao.computeIfAbsent(textoBotao, texto -> new ConcurrentHashMap<>());
+        Duration orcamento = timeoutSegundos > 0 ? Duration.ofSeconds(timeoutSegundos) : WaitEngine.orcamentoPadrao();
+
+        Map<?, ?> resultado = WaitEngine.aguardar(driver, orcamento, d -> {
+            Object retorno = ((JavascriptExecutor) d).executeScript(
+                    SCRIPT_ENCONTRAR_BOTAO, Arrays.asList(seletores), estrategiasAprendidas);
+            return retorno instanceof Map ? (Map<?, ?>) retorno : null;
+        });
+
+        if (resultado != null) {
+            int indice = ((Number) resultado.get("indice")).intValue();
+            Integer anterior = estrategiasAprendidas.put(String.valueOf(resultado.get("url")), indice);
+            logger.info("Botão '{}' encontrado com seletor: {}{}", textoBotao, seletores[indice],
+                    anterior != null && anterior == indice ? " (estratégia em cache)" : "");
+            return (WebElement) resultado.get("elemento");
         }
         logger.warn("Botão '{}' não encontrado. Listando todos os botões disponíveis:", textoBotao);
         listarTodosBotoesDisponiveis(driver);
@@ -0,0 +1,10 @@
+// Comportamento compartilhado das fixtures: cada resultado passa por api/ping antes de ser exibido,
+// de modo que a latência configurada no servidor também atrasa a resposta aos cliques
+function comLatencia(exibir) {
+  fetch('api/ping', { cache: 'no-store' }).then(function () { exibir(); });
+}
+
+function exibirTexto(elemento, texto) {
+  elemento.textContent = texto;
+  elemento.style.display = texto ? '' : 'none';
+}
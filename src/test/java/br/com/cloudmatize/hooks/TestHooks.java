@@ -1,10 +1,25 @@
 package br.com.cloudmatize.hooks;
 
+import br.com.cloudmatize.driver.ChromeTracer;
 import br.com.cloudmatize.driver.DriverFactory;
+import br.com.cloudmatize.driver.ResourceBlocker;
+import br.com.cloudmatize.driver.ScreencastRecorder;
 import br.com.cloudmatize.config.ConfigManager;
+import br.com.cloudmatize.fixtures.FixtureServer;
+import br.com.cloudmatize.jfr.ReportEvent;
+import br.com.cloudmatize.jfr.ScenarioEvent;
+import br.com.cloudmatize.replay.ReplayRecorder;
+import br.com.cloudmatize.replay.ReplayServer;
 import br.com.cloudmatize.reports.ExtentTestManager;
+import br.com.cloudmatize.reports.ScreenshotProcessor;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import br.com.cloudmatize.utils.LocatorCache;
 import io.cucumber.java.After;
+import io.cucumber.java.AfterAll;
+import io.cucumber.java.AfterStep;
 import io.cucumber.java.Before;
+import io.cucumber.java.BeforeAll;
 import io.cucumber.java.Scenario;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -12,14 +27,37 @@ import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 
+import java.nio.file.Path;
+
 public class TestHooks {
     private static final Logger logger = LogManager.getLogger(TestHooks.class);    private final ConfigManager config = ConfigManager.getInstance();
+    // Evento JFR do cenário em execução na thread, aberto no @Before e gravado no @After
+    private static final ThreadLocal<ScenarioEvent> eventoCenario = new ThreadLocal<>();
+
+    @BeforeAll
+    public static void beforeAll() {
+        // Em http.replay.mode=replay as páginas passam a ser servidas localmente a partir do arquivo gravado
+        ReplayServer.iniciarSeConfigurado();
+        // Com fixture.server.enabled=true as páginas são servidas pelas réplicas locais do playground
+        FixtureServer.iniciarSeConfigurado();
+    }
 
     @Before
     public void beforeScenario(Scenario scenario) {
         logger.info("=== INICIANDO CENÁRIO: {} ===", scenario.getName());
+        eventoCenario.set(new ScenarioEvent(scenario.getName(), String.join(" ", scenario.getSourceTagNames())));
         // Inicializa o WebDriver para o cenário
         DriverFactory.initDriver();
+        // Mantém em memória os últimos segundos de tela, gravados apenas se o cenário falhar
+        ScreencastRecorder.iniciar(DriverFactory.getDriver());
+        // Cenários com a tag de desempenho medem as páginas mesmo com performance.capture.enabled=false
+        if (scenario.getSourceTagNames().contains(config.getPerformanceCaptureTag())) {
+            ExtentTestManager.solicitarCapturaDesempenho();
+        }
+        // Cenários com a tag de trace gravam o trace de desempenho do Chrome
+        if (scenario.getSourceTagNames().contains(config.getTraceTag())) {
+            ChromeTracer.iniciar(DriverFactory.getDriver(), scenario.getName() + "_linha_" + scenario.getLine());
+        }
         // Configurar driver baseado na configuração
         String browser = config.getBrowser();
         boolean headless = config.isHeadless();
@@ -31,39 +69,89 @@ public class TestHooks {
             logger.info("Tags do cenário: {}", scenario.getSourceTagNames());
             ExtentTestManager.getTest().assignCategory(scenario.getSourceTagNames().toArray(new String[0]));
         }
-    }    @After
+    }
+
+    @AfterStep
+    public void afterStep(Scenario scenario) {
+        // Localizadores resolvidos no passo só são aprendidos quando o passo passa
+        LocatorCache.getInstance().concluirPasso(!scenario.isFailed());
+    }
+
+    @After
     public void afterScenario(Scenario scenario) {
         logger.info("=== FINALIZANDO CENÁRIO: {} ===", scenario.getName());
           try {
             WebDriver driver = DriverFactory.getDriver();
+            ScreencastRecorder.Screencast screencast = ScreencastRecorder.finalizar(driver, scenario.isFailed(),
+                    scenario.getName() + "_linha_" + scenario.getLine());
             
             if (scenario.isFailed()) {
                 logger.error("Cenário falhou: {}", scenario.getName());
                 
                 // Capturar screenshot em caso de falha
                 if (driver != null) {
+                    ReportEvent eventoScreenshot = new ReportEvent("screenshot", "Screenshot da Falha");
+                    // Uma única captura atende ao Cucumber e ao ExtentReports
                     byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+                    eventoScreenshot.finalizar();
                     scenario.attach(screenshot, "image/png", "Screenshot da Falha");
                     
-                    // Anexar screenshot ao ExtentReports
-                    String screenshotBase64 = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
-                    ExtentTestManager.getTest().fail("Cenário falhou")
-                        .addScreenCaptureFromBase64String(screenshotBase64, "Screenshot da Falha");
+                    // Conversão e anexo ao ExtentReports em background, sem atrasar a liberação do driver
+                    ExtentTest test = ExtentTestManager.getTest();
+                    test.fail("Cenário falhou");
+                    ScreenshotProcessor.getInstance().anexar(test, screenshot, Status.FAIL, "Screenshot da Falha");
+                }
+                if (screencast != null) {
+                    // Codificação do GIF e anexo ao ExtentReports em background, junto com o screenshot
+                    ExtentTest test = ExtentTestManager.getTest();
+                    ScreenshotProcessor.getInstance().executar("Screencast da Falha",
+                            () -> ExtentTestManager.addMediaFromPath(test, screencast.gravar(), "Screencast da Falha"));
                 }
             } else {
                 logger.info("Cenário executado com sucesso: {}", scenario.getName());
                 ExtentTestManager.getTest().pass("Cenário executado com sucesso");
             }
             
+            // Resumo do bloqueio de recursos de terceiros no cenário
+            String resumoBloqueio = ResourceBlocker.obterResumoCenario(driver);
+            if (resumoBloqueio != null) {
+                logger.info(resumoBloqueio);
+                ExtentTestManager.getTest().info(resumoBloqueio);
+            }
+            
             // Log do status final
             logger.info("Status do cenário: {}", scenario.getStatus());
             
         } catch (Exception e) {
             logger.error("Erro durante a finalização do cenário: {}", e.getMessage(), e);
         } finally {
-            // Fechar o driver
-            DriverFactory.quitDriver();
-            logger.info("Driver finalizado para o cenário: {}", scenario.getName());
+            // Encerra o trace antes de a sessão ser devolvida ou finalizada
+            Path trace = ChromeTracer.finalizar(DriverFactory.getDriver());
+            if (trace != null) {
+                ExtentTestManager.logStep("Trace de desempenho do Chrome: " + trace.toAbsolutePath());
+            }
+            // Libera o driver (devolve ao pool ou fecha o navegador)
+            DriverFactory.releaseDriver();
+            logger.info("Driver liberado para o cenário: {}", scenario.getName());
+            // Threads de execução paralela são reaproveitadas entre cenários
+            ExtentTestManager.removeTest();
+            ScenarioEvent evento = eventoCenario.get();
+            eventoCenario.remove();
+            if (evento != null) {
+                evento.finalizar(scenario.getStatus().name());
+            }
         }
     }
+
+    @AfterAll
+    public static void afterAll() {
+        // Finaliza as sessões mantidas pelo pool de drivers
+        DriverFactory.shutdown();
+        // Persiste os localizadores aprendidos para as próximas execuções
+        LocatorCache.getInstance().salvar();
+        // Grava o índice das respostas capturadas (record) e finaliza o servidor local (replay)
+        ReplayRecorder.salvar();
+        ReplayServer.encerrarSeAtivo();
+        FixtureServer.encerrarSeAtivo();
+    }
 }
@@ -0,0 +1,94 @@
+package br.com.cloudmatize.runners;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Amostra periodicamente a memória dos processos do Chrome abaixo de um processo raiz e a utilização
+ * de CPU da máquina, guardando o pico de RSS e a média/pico de CPU
+ * O RSS é lido de /proc/<pid>/status e fica indisponível (-1) fora do Linux
+ */
+final class ChromeResourceSampler implements AutoCloseable {
+    private static final long INTERVALO_MS = 250;
+
+    private final ProcessHandle raiz;
+    private final com.sun.management.OperatingSystemMXBean sistema =
+            (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+    private final boolean rssDisponivel = Files.isDirectory(Paths.get("/proc"));
+    private final ScheduledExecutorService agendador = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "chrome-resource-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private long picoRssKb;
+    private double somaCpu;
+    private double picoCpu;
+    private int amostrasCpu;
+
+    ChromeResourceSampler(ProcessHandle raiz) {
+        this.raiz = raiz;
+        agendador.scheduleAtFixedRate(this::amostrar, 0, INTERVALO_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void amostrar() {
+        if (rssDisponivel) {
+            long rssKb = raiz.descendants()
+                    .filter(ChromeResourceSampler::ehChrome)
+                    .mapToLong(ChromeResourceSampler::lerRssKb)
+                    .sum();
+            picoRssKb = Math.max(picoRssKb, rssKb);
+        }
+        double cpu = sistema.getCpuLoad();
+        if (cpu >= 0) {
+            somaCpu += cpu;
+            picoCpu = Math.max(picoCpu, cpu);
+            amostrasCpu++;
+        }
+    }
+
+    synchronized long getPicoRssMb() {
+        return rssDisponivel ? picoRssKb / 1024 : -1;
+    }
+
+    synchronized double getCpuMediaPercentual() {
+        return amostrasCpu > 0 ? somaCpu / amostrasCpu * 100 : -1;
+    }
+
+    synchronized double getCpuPicoPercentual() {
+        return amostrasCpu > 0 ? picoCpu * 100 : -1;
+    }
+
+    @Override
+    public void close() {
+        agendador.shutdownNow();
+    }
+
+    /**
+     * Processos do navegador (chrome, chrome_crashpad etc.), sem contar o chromedriver
+     */
+    private static boolean ehChrome(ProcessHandle processo) {
+        return processo.info().command()
+                .map(comando -> Paths.get(comando).getFileName().toString().toLowerCase())
+                .map(nome -> nome.contains("chrome") && !nome.contains("chromedriver"))
+                .orElse(false);
+    }
+
+    private static long lerRssKb(ProcessHandle processo) {
+        Path status = Paths.get("/proc", String.valueOf(processo.pid()), "status");
+        try {
+            for (String linha : Files.readAllLines(status)) {
+                if (linha.startsWith("VmRSS:")) {
+                    return Long.parseLong(linha.replaceAll("[^0-9]", ""));
+                }
+            }
+        } catch (Exception e) {
+            // O processo pode ter terminado entre a listagem e a leitura
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,70 @@
+package br.com.cloudmatize.runners;
+
+import br.com.cloudmatize.config.ConfigManager;
+import io.cucumber.core.cli.Main;
+import io.cucumber.junit.CucumberOptions;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runner para execução paralela dos cenários
+ * Reaproveita features, glue e plugins do TestRunner e executa os cenários
+ * em paralelo com a quantidade de threads definida em thread.pool.size
+ *
+ * EXEMPLOS DE USO VIA COMANDO:
+ * mvn test -Pparallel
+ * mvn test -Pparallel -Dthread.pool.size=4
+ * mvn test -Pparallel -Dcucumber.filter.tags="@dropdown"
+ */
+public class ParallelTestRunner {
+    private static final Logger logger = LogManager.getLogger(ParallelTestRunner.class);
+
+    @Test
+    public void executarCenariosEmParalelo() {
+        int threads = Math.max(1, ConfigManager.getInstance().getPoolSize());
+        logger.info("=== EXECUÇÃO PARALELA COM {} THREADS ===", threads);
+
+        byte status = Main.run(montarArgumentos(threads), Thread.currentThread().getContextClassLoader());
+
+        Assert.assertEquals("Execução paralela terminou com cenários falhos", 0, status);
+    }
+
+    /**
+     * Monta os argumentos da CLI do Cucumber a partir do @CucumberOptions do TestRunner
+     * Filtros de tags passados via -Dcucumber.filter.tags continuam valendo
+     */
+    static String[] montarArgumentos(int threads) {
+        CucumberOptions opcoes = TestRunner.class.getAnnotation(CucumberOptions.class);
+        List<String> argumentos = new ArrayList<>();
+
+        argumentos.add("--threads");
+        argumentos.add(String.valueOf(threads));
+        for (String glue : opcoes.glue()) {
+            argumentos.add("--glue");
+            argumentos.add(glue);
+        }
+        for (String plugin : opcoes.plugin()) {
+            argumentos.add("--plugin");
+            argumentos.add(plugin);
+        }
+        if (!opcoes.tags().isEmpty() && System.getProperty("cucumber.filter.tags") == null) {
+            argumentos.add("--tags");
+            argumentos.add(opcoes.tags());
+        }
+        if (opcoes.monochrome()) {
+            argumentos.add("--monochrome");
+        }
+        if (opcoes.publish()) {
+            argumentos.add("--publish");
+        }
+        for (String feature : opcoes.features()) {
+            argumentos.add(feature);
+        }
+        return argumentos.toArray(new String[0]);
+    }
+}
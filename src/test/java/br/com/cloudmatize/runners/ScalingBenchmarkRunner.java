@@ -0,0 +1,214 @@
+package br.com.cloudmatize.runners;
+
+import br.com.cloudmatize.config.ConfigManager;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import io.cucumber.core.cli.Main;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmark de escalabilidade da suíte por quantidade de workers
+ * Executa as features e o glue do TestRunner, com os mesmos argumentos do ParallelTestRunner, contra o
+ * site local de fixtures (ou o servidor de replay com http.replay.mode=replay) para cada valor de
+ * scaling.workers. Cada execução roda em uma JVM própria, já que pool, prefetch e navegador compartilhado
+ * são finalizados no @AfterAll. Gera target/scaling/scaling-report.json e scaling-report.md com
+ * cenários/minuto, latência p50/p95, pico de RSS do Chrome, CPU e a curva de speedup.
+ *
+ * EXEMPLOS DE USO VIA COMANDO:
+ * mvn test -Pscaling
+ * mvn test -Pscaling -Dscaling.workers=1,4,8
+ * mvn test -Pscaling -Dhttp.replay.mode=replay
+ */
+public class ScalingBenchmarkRunner {
+    private static final Logger logger = LogManager.getLogger(ScalingBenchmarkRunner.class);
+    private static final Path DIRETORIO = Paths.get("target", "scaling");
+    // Propriedades da própria JVM, que não devem ser repassadas às execuções filhas
+    private static final List<String> PREFIXOS_JVM = Arrays.asList("java.", "jdk.", "sun.", "os.", "user.",
+            "file.", "line.", "path.", "awt.", "native.", "stdout.", "stderr.", "surefire.", "basedir",
+            "localRepository", "thread.pool.size", "fixture.server.enabled");
+
+    @Test
+    public void medirEscalabilidade() throws IOException, InterruptedException {
+        List<Integer> workers = ConfigManager.getInstance().getScalingWorkers();
+        Files.createDirectories(DIRETORIO);
+        logger.info("=== BENCHMARK DE ESCALABILIDADE COM {} WORKERS ===", workers);
+
+        List<Map<String, Object>> pontos = new ArrayList<>();
+        for (int quantidade : workers) {
+            pontos.add(executar(quantidade));
+        }
+        calcularSpeedup(pontos);
+        gravarRelatorio(pontos);
+
+        Assert.assertTrue("Nenhuma execução produziu cenários",
+                pontos.stream().anyMatch(ponto -> ((Number) ponto.get("cenarios")).intValue() > 0));
+    }
+
+    /**
+     * Executa a suíte em uma JVM filha com a quantidade de workers informada e coleta as métricas
+     */
+    private Map<String, Object> executar(int workers) throws IOException, InterruptedException {
+        Path tempos = DIRETORIO.resolve("workers-" + workers + ".json");
+        Files.deleteIfExists(tempos);
+        logger.info("Executando a suíte com {} workers", workers);
+
+        Process processo = new ProcessBuilder(montarComando(workers, tempos))
+                .redirectErrorStream(true)
+                .redirectOutput(DIRETORIO.resolve("workers-" + workers + ".log").toFile())
+                .start();
+        Map<String, Object> ponto = new LinkedHashMap<>();
+        ponto.put("workers", workers);
+        try (ChromeResourceSampler amostrador = new ChromeResourceSampler(processo.toHandle())) {
+            ponto.put("statusSaida", processo.waitFor());
+            ponto.put("picoRssChromeMb", amostrador.getPicoRssMb());
+            ponto.put("cpuMediaPercentual", arredondar(amostrador.getCpuMediaPercentual()));
+            ponto.put("cpuPicoPercentual", arredondar(amostrador.getCpuPicoPercentual()));
+        }
+
+        List<Map<String, Object>> cenarios = new ArrayList<>();
+        long duracaoTotalMs = 0;
+        if (Files.exists(tempos)) {
+            try (Reader reader = Files.newBufferedReader(tempos, StandardCharsets.UTF_8)) {
+                Map<String, Object> execucao = new Gson().fromJson(reader, new TypeToken<Map<String, Object>>() { }.getType());
+                duracaoTotalMs = ((Number) execucao.get("duracaoTotalMs")).longValue();
+                @SuppressWarnings("unchecked")
+                List<Map<String, Object>> lidos = (List<Map<String, Object>>) execucao.get("cenarios");
+                cenarios.addAll(lidos);
+            }
+        } else {
+            logger.warn("Execução com {} workers não gerou tempos de cenários; veja {}", workers,
+                    DIRETORIO.resolve("workers-" + workers + ".log"));
+        }
+        List<Long> duracoes = cenarios.stream()
+                .map(cenario -> ((Number) cenario.get("duracaoMs")).longValue())
+                .sorted()
+                .collect(Collectors.toList());
+        long falhas = cenarios.stream().filter(cenario -> !"PASSED".equals(cenario.get("status"))).count();
+
+        ponto.put("cenarios", cenarios.size());
+        ponto.put("falhas", falhas);
+        ponto.put("duracaoMs", duracaoTotalMs);
+        ponto.put("cenariosPorMinuto", duracaoTotalMs > 0 ? arredondar(cenarios.size() * 60000.0 / duracaoTotalMs) : 0);
+        ponto.put("p50Ms", percentil(duracoes, 0.50));
+        ponto.put("p95Ms", percentil(duracoes, 0.95));
+        if (falhas > 0) {
+            logger.warn("{} cenários falharam com {} workers; os números desta execução podem estar distorcidos", falhas, workers);
+        }
+        logger.info("Workers: {} | {}", workers, ponto);
+        return ponto;
+    }
+
+    /**
+     * java -cp <classpath atual> io.cucumber.core.cli.Main <argumentos do ParallelTestRunner>
+     */
+    private List<String> montarComando(int workers, Path tempos) {
+        List<String> comando = new ArrayList<>();
+        comando.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                .filter(argumento -> argumento.startsWith("--add-opens") || argumento.startsWith("-Xmx"))
+                .forEach(comando::add);
+        for (String chave : System.getProperties().stringPropertyNames()) {
+            if (PREFIXOS_JVM.stream().noneMatch(chave::startsWith)) {
+                comando.add("-D" + chave + "=" + System.getProperty(chave));
+            }
+        }
+        comando.add("-Dthread.pool.size=" + workers);
+        if (!"replay".equals(ConfigManager.getInstance().getHttpReplayMode())) {
+            comando.add("-Dfixture.server.enabled=true");
+        }
+        comando.add("-cp");
+        comando.add(System.getProperty("java.class.path"));
+        comando.add(Main.class.getName());
+        comando.add("--plugin");
+        comando.add(ScenarioTimingPlugin.class.getName() + ":" + tempos);
+        comando.addAll(Arrays.asList(ParallelTestRunner.montarArgumentos(workers)));
+        return comando;
+    }
+
+    /**
+     * Speedup e eficiência em relação à menor quantidade de workers medida
+     */
+    private static void calcularSpeedup(List<Map<String, Object>> pontos) {
+        if (pontos.isEmpty()) {
+            return;
+        }
+        Map<String, Object> base = pontos.get(0);
+        double vazaoBase = ((Number) base.get("cenariosPorMinuto")).doubleValue();
+        int workersBase = (Integer) base.get("workers");
+        for (Map<String, Object> ponto : pontos) {
+            double vazao = ((Number) ponto.get("cenariosPorMinuto")).doubleValue();
+            double speedup = vazaoBase > 0 ? vazao / vazaoBase : 0;
+            double idealBase = (double) (Integer) ponto.get("workers") / workersBase;
+            ponto.put("speedup", arredondar(speedup));
+            ponto.put("eficiencia", arredondar(speedup / idealBase));
+        }
+    }
+
+    private static void gravarRelatorio(List<Map<String, Object>> pontos) throws IOException {
+        Map<String, Object> relatorio = new LinkedHashMap<>();
+        relatorio.put("geradoEm", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        relatorio.put("alvo", "replay".equals(ConfigManager.getInstance().getHttpReplayMode()) ? "replay" : "fixture");
+        relatorio.put("processadores", Runtime.getRuntime().availableProcessors());
+        relatorio.put("pontos", pontos);
+        try (Writer writer = Files.newBufferedWriter(DIRETORIO.resolve("scaling-report.json"), StandardCharsets.UTF_8)) {
+            new GsonBuilder().setPrettyPrinting().create().toJson(relatorio, writer);
+        }
+
+        double maiorVazao = pontos.stream()
+                .mapToDouble(ponto -> ((Number) ponto.get("cenariosPorMinuto")).doubleValue())
+                .max().orElse(0);
+        StringBuilder markdown = new StringBuilder()
+                .append("# Curva de escalabilidade\n\n")
+                .append("Alvo: ").append(relatorio.get("alvo"))
+                .append(" | Processadores: ").append(relatorio.get("processadores"))
+                .append(" | Gerado em: ").append(relatorio.get("geradoEm")).append("\n\n")
+                .append("| Workers | Cenários | Falhas | Cenários/min | p50 (ms) | p95 (ms) | Pico RSS Chrome (MB) | CPU média % | CPU pico % | Speedup | Eficiência | |\n")
+                .append("|---:|---:|---:|---:|---:|---:|---:|---:|---:|---:|---:|---|\n");
+        for (Map<String, Object> ponto : pontos) {
+            double vazao = ((Number) ponto.get("cenariosPorMinuto")).doubleValue();
+            int barra = maiorVazao > 0 ? (int) Math.round(vazao / maiorVazao * 30) : 0;
+            markdown.append(String.format("| %s | %s | %s | %s | %s | %s | %s | %s | %s | %s | %s | `%s` |%n",
+                    ponto.get("workers"), ponto.get("cenarios"), ponto.get("falhas"), ponto.get("cenariosPorMinuto"),
+                    ponto.get("p50Ms"), ponto.get("p95Ms"), ponto.get("picoRssChromeMb"), ponto.get("cpuMediaPercentual"),
+                    ponto.get("cpuPicoPercentual"), ponto.get("speedup"), ponto.get("eficiencia"), "#".repeat(barra)));
+        }
+        Files.writeString(DIRETORIO.resolve("scaling-report.md"), markdown.toString(), StandardCharsets.UTF_8);
+        logger.info("Relatório de escalabilidade gravado em {}", DIRETORIO.toAbsolutePath());
+    }
+
+    /**
+     * Percentil pelo método nearest-rank sobre a lista já ordenada
+     */
+    private static long percentil(List<Long> ordenados, double quantil) {
+        if (ordenados.isEmpty()) {
+            return 0;
+        }
+        int posicao = (int) Math.ceil(quantil * ordenados.size()) - 1;
+        return ordenados.get(Math.max(0, Math.min(posicao, ordenados.size() - 1)));
+    }
+
+    private static double arredondar(double valor) {
+        return Math.round(valor * 100) / 100.0;
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.cloudmatize.runners;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plugin do Cucumber que grava a duração e o status de cada cenário da execução
+ * Usado pelo ScalingBenchmarkRunner: --plugin br.com.cloudmatize.runners.ScenarioTimingPlugin:target/scaling/arquivo.json
+ */
+public class ScenarioTimingPlugin implements ConcurrentEventListener {
+    private final File destino;
+    private final List<Map<String, Object>> cenarios = new ArrayList<>();
+    private Instant inicio;
+
+    public ScenarioTimingPlugin(File destino) {
+        this.destino = destino;
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestRunStarted.class, evento -> inicio = evento.getInstant());
+        publisher.registerHandlerFor(TestCaseFinished.class, this::registrarCenario);
+        publisher.registerHandlerFor(TestRunFinished.class, this::gravar);
+    }
+
+    private synchronized void registrarCenario(TestCaseFinished evento) {
+        Map<String, Object> cenario = new LinkedHashMap<>();
+        cenario.put("nome", evento.getTestCase().getName());
+        cenario.put("duracaoMs", evento.getResult().getDuration().toMillis());
+        cenario.put("status", evento.getResult().getStatus().name());
+        cenarios.add(cenario);
+    }
+
+    private synchronized void gravar(TestRunFinished evento) {
+        Map<String, Object> execucao = new LinkedHashMap<>();
+        execucao.put("duracaoTotalMs", inicio != null ? Duration.between(inicio, evento.getInstant()).toMillis() : 0);
+        execucao.put("cenarios", cenarios);
+        try {
+            Files.createDirectories(destino.getAbsoluteFile().getParentFile().toPath());
+            Gson gson = new GsonBuilder().setPrettyPrinting().create();
+            try (Writer writer = Files.newBufferedWriter(destino.toPath(), StandardCharsets.UTF_8)) {
+                gson.toJson(execucao, writer);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Falha ao gravar tempos dos cenários em " + destino + ": " + e.getMessage(), e);
+        }
+    }
+}
@@ -29,7 +29,9 @@ import org.junit.runner.RunWith;
         "html:target/cucumber-reports/html",
         "json:target/cucumber-reports/Cucumber.json",
         "junit:target/cucumber-reports/Cucumber.xml",
-        "timeline:target/cucumber-reports/timeline"
+        "timeline:target/cucumber-reports/timeline",
+        "br.com.cloudmatize.reports.CommandMetricsPlugin:target/command-metrics/command-metrics.json",
+        "br.com.cloudmatize.jfr.FlightRecorderPlugin"
     },
     publish = false,
     monochrome = true
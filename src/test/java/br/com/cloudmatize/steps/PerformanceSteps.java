@@ -0,0 +1,57 @@
+package br.com.cloudmatize.steps;
+
+import br.com.cloudmatize.config.ConfigManager;
+import br.com.cloudmatize.reports.ExtentTestManager;
+import br.com.cloudmatize.utils.PagePerformance;
+import io.cucumber.java.pt.Entao;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.Assert;
+
+/**
+ * Steps de orçamento de desempenho das páginas
+ * Validam as métricas medidas pelo navegador na última navegação do cenário (performance.capture.enabled)
+ */
+public class PerformanceSteps {
+    private static final Logger logger = LogManager.getLogger(PerformanceSteps.class);
+
+    @Entao("a pagina deve carregar em menos de {int} ms")
+    public void aPaginaDeveCarregarEmMenosDe(int orcamentoMs) {
+        validarOrcamento(obterUltimoDesempenho(), orcamentoMs);
+    }
+
+    @Entao("a pagina deve respeitar o orcamento de desempenho configurado")
+    public void aPaginaDeveRespeitarOOrcamentoDeDesempenhoConfigurado() {
+        PagePerformance desempenho = obterUltimoDesempenho();
+        int orcamentoMs = ConfigManager.getInstance().getPerformanceBudgetMs(desempenho.getPagina());
+        if (orcamentoMs <= 0) {
+            logger.warn("Nenhum orçamento configurado para a página {}", desempenho.getPagina());
+            ExtentTestManager.logWarning("Nenhum orçamento de desempenho configurado para " + desempenho.getPagina());
+            return;
+        }
+        validarOrcamento(desempenho, orcamentoMs);
+    }
+
+    private PagePerformance obterUltimoDesempenho() {
+        PagePerformance desempenho = ExtentTestManager.getUltimoDesempenho();
+        Assert.assertNotNull("Nenhuma métrica de desempenho capturada no cenário (verifique performance.capture.enabled ou performance.capture.tag)",
+                desempenho);
+        return desempenho;
+    }
+
+    private void validarOrcamento(PagePerformance desempenho, int orcamentoMs) {
+        long carregamentoMs = desempenho.getCarregamentoMs();
+        // Com page.load.strategy eager/none o load pode não ter ocorrido; a métrica comparada é informada
+        String metrica = desempenho.getMetricaCarregamento();
+        logger.info("Página {} carregou em {} ms ({}; orçamento: {} ms)", desempenho.getPagina(), carregamentoMs, metrica, orcamentoMs);
+        try {
+            Assert.assertTrue(String.format("Página %s carregou em %d ms (%s), acima do orçamento de %d ms | %s",
+                    desempenho.getPagina(), carregamentoMs, metrica, orcamentoMs, desempenho.resumir()), carregamentoMs < orcamentoMs);
+            ExtentTestManager.logPass(String.format("Página %s carregou em %d ms (%s; orçamento: %d ms)",
+                    desempenho.getPagina(), carregamentoMs, metrica, orcamentoMs));
+        } catch (AssertionError e) {
+            ExtentTestManager.logFail(e.getMessage());
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package br.com.cloudmatize.utils;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.openqa.selenium.By;
+
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Regras de pontuação e ordenação do LocatorCache
+ */
+public class LocatorCacheTest {
+    private static final String CHAVE = "SimpleFormPage#obterResultadoMensagem";
+    private static final By MENSAGEM = By.id("message");
+    private static final By DISPLAY = By.id("display");
+    private static final By AMPLO = By.xpath("//div[contains(@class, 'result')]");
+
+    @Rule
+    public TemporaryFolder pasta = new TemporaryFolder();
+
+    private LocatorCache cache;
+
+    @Before
+    public void criarCache() {
+        cache = new LocatorCache(true, pasta.getRoot().toPath().resolve("locators.json"));
+    }
+
+    @Test
+    public void semHistoricoMantemOrdemOriginal() {
+        assertArrayEquals(new By[]{MENSAGEM, DISPLAY, AMPLO}, cache.ordenar(CHAVE, MENSAGEM, DISPLAY, AMPLO));
+    }
+
+    @Test
+    public void vencedorSoSobeQuandoPassoPassa() {
+        By[] candidatos = {MENSAGEM, DISPLAY, AMPLO};
+        cache.registrar(CHAVE, candidatos, resolvido(candidatos, 2));
+        cache.concluirPasso(false);
+        assertEquals(0, cache.pontuacao(CHAVE, AMPLO));
+        assertArrayEquals(candidatos, cache.ordenar(CHAVE, candidatos));
+
+        cache.registrar(CHAVE, candidatos, resolvido(candidatos, 1));
+        cache.concluirPasso(true);
+        assertEquals(1, cache.pontuacao(CHAVE, DISPLAY));
+        assertArrayEquals(new By[]{DISPLAY, MENSAGEM, AMPLO}, cache.ordenar(CHAVE, candidatos));
+    }
+
+    @Test
+    public void apenasLocalizadoresConhecidosSaoRebaixados() {
+        By[] candidatos = {MENSAGEM, DISPLAY};
+        cache.registrar(CHAVE, candidatos, resolvido(candidatos, 0));
+        cache.concluirPasso(true);
+
+        // MENSAGEM já venceu antes e agora não corresponde: cai abaixo do candidato neutro
+        cache.registrar(CHAVE, candidatos, resolvido(candidatos, 1));
+        cache.concluirPasso(true);
+        assertEquals(-1, cache.pontuacao(CHAVE, MENSAGEM));
+        assertEquals(1, cache.pontuacao(CHAVE, DISPLAY));
+
+        // Sem vencedor, o candidato desconhecido continua neutro
+        cache.registrar("OutraPage#metodo", new By[]{AMPLO}, null);
+        cache.concluirPasso(true);
+        assertEquals(0, cache.pontuacao("OutraPage#metodo", AMPLO));
+    }
+
+    @Test
+    public void pontuacaoLimitadaAoMaximo() {
+        By[] candidatos = {MENSAGEM};
+        for (int i = 0; i < 25; i++) {
+            cache.registrar(CHAVE, candidatos, resolvido(candidatos, 0));
+        }
+        cache.concluirPasso(true);
+        assertEquals(10, cache.pontuacao(CHAVE, MENSAGEM));
+    }
+
+    @Test
+    public void pontuacaoPersisteEntreExecucoes() {
+        Path arquivo = pasta.getRoot().toPath().resolve("locators.json");
+        By[] candidatos = {MENSAGEM, DISPLAY};
+        cache.registrar(CHAVE, candidatos, resolvido(candidatos, 1));
+        cache.concluirPasso(true);
+        cache.salvar();
+        assertTrue(arquivo.toFile().exists());
+
+        LocatorCache recarregado = new LocatorCache(true, arquivo);
+        assertArrayEquals(new By[]{DISPLAY, MENSAGEM}, recarregado.ordenar(CHAVE, candidatos));
+    }
+
+    private static ResolvedElement resolvido(By[] candidatos, int indice) {
+        return new ResolvedElement(null, "texto", indice, candidatos[indice]);
+    }
+}
@@ -30,6 +30,11 @@ Funcionalidade: Automacao do Formulario Simples
     E eu clico no botao do formulario "Get Sum"
     Entao eu devo ver uma mensagem de erro ou resultado invalido
 
+  @formulario @desempenho @trace
+  Cenario: Carregar o formulario simples dentro do orcamento de desempenho
+    Quando eu navego para a pagina "Simple Form Demo"
+    Entao a pagina deve respeitar o orcamento de desempenho configurado
+
   @formulario @vazio
   Cenario: Enviar mensagem vazia
     Quando eu navego para a pagina "Simple Form Demo"